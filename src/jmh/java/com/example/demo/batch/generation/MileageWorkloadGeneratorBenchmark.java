@@ -0,0 +1,61 @@
+package com.example.demo.batch.generation;
+
+import com.example.demo.domain.MileageHistory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트 데이터 생성기의 행 단위 생성 벤치마크
+ *
+ * mileageHistoryDayGenerationStep의 Reader가 항목마다 호출하는 MileageWorkloadGenerator.generate 비용을 측정합니다.
+ * zipfExponent=0은 균등 분포, 1.0은 기본 설정(Zipf 편중)입니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MileageWorkloadGeneratorBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MileageWorkloadGeneratorBenchmark {
+
+    private static final double[] HOURLY_WEIGHTS =
+        {2, 1, 1, 1, 1, 2, 4, 6, 8, 9, 10, 11, 14, 11, 10, 9, 9, 10, 12, 14, 13, 10, 7, 4};
+    private static final double[] WEEKDAY_WEIGHTS = {1.0, 0.95, 0.95, 1.0, 1.15, 1.35, 1.25};
+
+    @Param({"1000000"})
+    private int members;
+
+    @Param({"0", "1.0"})
+    private double zipfExponent;
+
+    private MileageWorkloadGenerator generator;
+    private LocalDate date;
+    private long index;
+
+    @Setup
+    public void setUp() {
+        date = LocalDate.of(2024, 3, 15);
+        MileageGenerationParameters.Volume volume = new MileageGenerationParameters.Volume(
+            members, 30, 1_000_000, 5000, 42L, zipfExponent, 0.7, date);
+        generator = new MileageWorkloadGenerator(volume, HOURLY_WEIGHTS, WEEKDAY_WEIGHTS);
+    }
+
+    @Benchmark
+    public MileageHistory generateRow() {
+        return generator.generate(date, 0, index++);
+    }
+}
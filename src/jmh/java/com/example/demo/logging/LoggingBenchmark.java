@@ -0,0 +1,128 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 항목별 로그 처리량 비교 벤치마크
+ *
+ * 배치 항목 하나를 처리할 때 남기는 로그(UserItemProcessor와 같은 형식)를 4개 스레드에서 동시에 기록하고,
+ * 로깅 설정별 초당 처리 항목 수를 비교합니다.
+ * - sync: FileAppender에 직접 기록 (변경 전 설정)
+ * - async: AsyncAppender(큐 8192) 경유
+ * - asyncSampled: async + MarkerSamplingTurboFilter(ITEM, 1/100)
+ * - disabled: 로거 레벨로 걸러지는 DEBUG 로그 (하한선)
+ *
+ * async 설정은 discardingThreshold=0으로 로그를 폐기하지 않습니다 (큐가 차면 기록 스레드가 대기).
+ * 운영 설정처럼 큐가 찬 뒤 INFO 이하를 버리면 파일에 쓰지 않은 로그까지 처리량에 잡혀 sync와 공정하게 비교할 수 없습니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=LoggingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    @Param({"sync", "async", "asyncSampled", "disabled"})
+    private String mode;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private LoggerContext context;
+    private Logger logger;
+    private File logFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".log").toFile();
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setName("FILE");
+        fileAppender.setFile(logFile.getAbsolutePath());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if (!"sync".equals(mode)) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName("ASYNC_FILE");
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+        if ("asyncSampled".equals(mode)) {
+            MarkerSamplingTurboFilter filter = new MarkerSamplingTurboFilter();
+            filter.setContext(context);
+            filter.setMarker(LogMarkers.ITEM.getName());
+            filter.setRate(100);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        logger = context.getLogger("com.example.demo.batch.chunk.UserItemProcessor");
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+        logFile.delete();
+    }
+
+    /**
+     * 항목 하나 처리 + 로그 기록
+     */
+    @Benchmark
+    public long logItem() {
+        long id = sequence.incrementAndGet();
+        String name = "USER" + (id & 1023);
+        if ("disabled".equals(mode)) {
+            logger.debug(LogMarkers.ITEM, "데이터 처리 완료: ID={}, 변환된 Name={}", id, name);
+        } else {
+            logger.info(LogMarkers.ITEM, "데이터 처리 완료: ID={}, 변환된 Name={}", id, name);
+        }
+        return id;
+    }
+}
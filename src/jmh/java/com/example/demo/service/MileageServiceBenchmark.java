@@ -0,0 +1,88 @@
+package com.example.demo.service;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.domain.Mileage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MileageService 적립/사용/조회 벤치마크 (인메모리 H2)
+ *
+ * local 프로파일로 애플리케이션 컨텍스트를 띄워 트랜잭션 프록시, MyBatis Mapper, Interceptor를 포함한
+ * 서비스 호출 한 번의 비용을 측정합니다. 웹 서버와 기동 시 배치 실행은 끄고, 배치 메타데이터도 인메모리 H2를 사용합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MileageServiceBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MileageServiceBenchmark {
+
+    private static final int MEMBERS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private MileageService mileageService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("local")
+            .properties(
+                "mileage.startup-job.mode=off",
+                "batch.datasource.url=jdbc:h2:mem:jmh-batch-meta;DB_CLOSE_DELAY=-1",
+                "logging.level.com.example.demo=WARN",
+                "logging.level.org.mybatis=WARN")
+            .run();
+        mileageService = context.getBean(MileageService.class);
+
+        // 사용(useMileage)이 잔액 부족으로 실패하지 않도록 충분한 잔액으로 시작
+        for (long memberId = 1; memberId <= MEMBERS; memberId++) {
+            mileageService.createMileage(memberId);
+            mileageService.earnMileage(memberId, 1_000_000_000, "벤치마크 초기 적립");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void earn() {
+        mileageService.earnMileage(randomMemberId(), 1000, "벤치마크 적립");
+    }
+
+    @Benchmark
+    public void use() {
+        mileageService.useMileage(randomMemberId(), 100, "벤치마크 사용");
+    }
+
+    @Benchmark
+    public Mileage get() {
+        return mileageService.getMileage(randomMemberId());
+    }
+
+    private long randomMemberId() {
+        return ThreadLocalRandom.current().nextLong(1, MEMBERS + 1);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtil 포맷/파싱 벤치마크
+ *
+ * 기본 포맷(상수 DateTimeFormatter)과 패턴 문자열 지정 포맷(호출마다 패턴 해석)을 비교합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=DateUtilBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateUtilBenchmark {
+
+    private final LocalDateTime dateTime = LocalDateTime.of(2024, 3, 15, 13, 45, 30);
+    private final LocalDate date = LocalDate.of(2024, 3, 15);
+    private final String dateTimeText = "2024-03-15 13:45:30";
+    private final String dateText = "2024-03-15";
+
+    @Benchmark
+    public String formatDateTime() {
+        return DateUtil.format(dateTime);
+    }
+
+    @Benchmark
+    public String formatDateTimeWithPattern() {
+        return DateUtil.format(dateTime, "yyyyMMddHHmmss");
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return DateUtil.format(date);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTime() {
+        return DateUtil.parseDateTime(dateTimeText);
+    }
+
+    @Benchmark
+    public LocalDate parseDate() {
+        return DateUtil.parseDate(dateText);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.util;
+
+import com.example.demo.domain.MileageDailySummary;
+import com.example.demo.domain.MileageHistory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtil 직렬화 벤치마크
+ *
+ * 조회 API 응답과 같은 MileageHistory / MileageDailySummary 목록을 JSON(String)과 CBOR(byte[])로 직렬화하고,
+ * JSON 목록을 다시 역직렬화합니다.
+ *
+ * CBOR은 API 응답과 같은 매퍼를 측정하도록 WebMvcConfig의 CBOR 컨버터처럼 Jackson2ObjectMapperBuilder로 만듭니다.
+ * (Spring 컨텍스트 없이 실행하므로 Spring Boot 기본 Jackson 설정인 날짜/기간 타임스탬프 비활성화를 직접 적용)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JsonUtilBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonUtilBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private List<MileageHistory> histories;
+    private List<MileageDailySummary> summaries;
+    private String historiesJson;
+    private ObjectMapper cborMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.of(2024, 3, 15, 0, 0);
+        histories = new ArrayList<>(size);
+        summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            MileageHistory history = new MileageHistory();
+            history.setId((long) i + 1);
+            history.setMileageMemberId((long) (i % 100) + 1);
+            history.setType(i % 3 == 0 ? "USE" : "EARN");
+            history.setAmount(i % 3 == 0 ? -500 : 1000);
+            history.setDescription("구매 적립 #" + i);
+            history.setCreateDate(base.plusMinutes(i));
+            histories.add(history);
+
+            summaries.add(MileageDailySummary.builder()
+                .summaryDate(LocalDate.of(2024, 1, 1).plusDays(i))
+                .totalEarnAmount(1_000_000L + i)
+                .totalEarnCount(1_000L + i)
+                .totalUseAmount(-300_000L - i)
+                .totalUseCount(300L + i)
+                .netAmount(700_000L)
+                .createDate(base)
+                .updateDate(base)
+                .build());
+        }
+        historiesJson = JsonUtil.toJson(histories);
+        cborMapper = new Jackson2ObjectMapperBuilder()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .factory(new CBORFactory())
+            .build();
+    }
+
+    @Benchmark
+    public String historiesToJson() {
+        return JsonUtil.toJson(histories);
+    }
+
+    @Benchmark
+    public String summariesToJson() {
+        return JsonUtil.toJson(summaries);
+    }
+
+    @Benchmark
+    public byte[] historiesToCbor() throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(histories);
+    }
+
+    @Benchmark
+    public List<MileageHistory> historiesFromJson() {
+        return JsonUtil.fromJsonToList(historiesJson, MileageHistory.class);
+    }
+}
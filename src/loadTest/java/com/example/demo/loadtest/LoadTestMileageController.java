@@ -0,0 +1,72 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.service.MileageService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 부하 테스트 전용 마일리지 적립/사용 API
+ *
+ * 운영 API에는 적립/사용 엔드포인트가 없으므로 부하 테스트의 쓰기 비중을 위해 loadTest 소스셋에만 둡니다.
+ * loadTest 클래스패스에서 load-test 프로파일로 기동할 때만 등록되며 운영 jar에는 포함되지 않습니다.
+ *
+ * - amount가 1 미만이면 400
+ * - 회원 없음/잔액 부족 등 서비스 예외는 409 (본문: 예외 메시지)
+ */
+@Profile("load-test")
+@RestController
+@RequestMapping("/load-test/mileage")
+public class LoadTestMileageController {
+
+    private final MileageService mileageService;
+
+    public LoadTestMileageController(MileageService mileageService) {
+        this.mileageService = mileageService;
+    }
+
+    /**
+     * 마일리지 적립
+     * POST /load-test/mileage/{memberId}/earn?amount=1000&description=load-test
+     */
+    @PostMapping("/{memberId}/earn")
+    public ResponseEntity<Void> earnMileage(
+            @PathVariable Long memberId,
+            @RequestParam Integer amount,
+            @RequestParam(required = false) String description) {
+        if (amount <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        mileageService.earnMileage(memberId, amount, description);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 마일리지 사용
+     * POST /load-test/mileage/{memberId}/use?amount=500&description=load-test
+     */
+    @PostMapping("/{memberId}/use")
+    public ResponseEntity<Void> useMileage(
+            @PathVariable Long memberId,
+            @RequestParam Integer amount,
+            @RequestParam(required = false) String description) {
+        if (amount <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        mileageService.useMileage(memberId, amount, description);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 서비스 예외(회원 없음, 잔액 부족)는 500 대신 409로 응답
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<String> handleServiceException(RuntimeException e) {
+        return ResponseEntity.status(409).body(e.getMessage());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.loadtest.OpenModelLoadDriver.StepResult;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 보고서
+ *
+ * 단계별 목표 도착률, 처리량(성공 응답 기준), 오류/overload 수, 지연 시간 백분위수(p50/p90/p99/p99.9/max)를
+ * 표로 출력하고, 시나리오별 p99를 함께 보여줍니다.
+ * 지연 시간 백분위수에는 overload(보내지 못한 요청)가 요청 타임아웃 값으로 포함됩니다.
+ *
+ * knee 판정: p99가 첫 단계 p99의 kneeFactor배를 넘거나, 처리량이 목표 도착률의 95%에 못 미친 첫 단계
+ */
+public class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final double kneeFactor;
+    private final List<StepResult> steps = new ArrayList<>();
+
+    public LoadTestReport(double kneeFactor) {
+        this.kneeFactor = kneeFactor;
+    }
+
+    public void add(StepResult result) {
+        steps.add(result);
+    }
+
+    /**
+     * 단계 한 줄 요약 (진행 중 출력용)
+     */
+    public String stepSummary(StepResult result) {
+        Histogram total = result.total();
+        return String.format("  처리량 %.1f req/s, 오류 %d, overload %d, p50 %.1fms, p99 %.1fms, max %.1fms",
+            result.throughput(), result.errorCount(), result.overload(),
+            millis(total, 50), millis(total, 99), total.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    /**
+     * 전체 보고서
+     */
+    public String render() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("=".repeat(100)).append('\n');
+        builder.append("마일리지 API 부하 테스트 결과 (지연 시간: 예정 전송 시각 기준, ms)\n");
+        builder.append("=".repeat(100)).append('\n');
+        builder.append(String.format("%10s %12s %8s %9s %9s %9s %9s %9s %9s%n",
+            "목표 req/s", "처리량 req/s", "오류", "overload", "p50", "p90", "p99", "p99.9", "max"));
+
+        int knee = kneeIndex();
+        for (int i = 0; i < steps.size(); i++) {
+            StepResult step = steps.get(i);
+            Histogram total = step.total();
+            builder.append(String.format("%10.0f %12.1f %8d %9d %9.1f %9.1f %9.1f %9.1f %9.1f%s%n",
+                step.targetRate(), step.throughput(), step.errorCount(), step.overload(),
+                millis(total, 50), millis(total, 90), millis(total, 99), millis(total, 99.9),
+                total.getMaxValue() / NANOS_PER_MILLI,
+                i == knee ? "  <- knee" : ""));
+        }
+
+        builder.append('\n').append("시나리오별 p99 (ms)\n");
+        builder.append(String.format("%10s", "목표 req/s"));
+        List<String> names = steps.isEmpty() ? List.of() : List.copyOf(steps.get(0).histograms().keySet());
+        names.forEach(name -> builder.append(String.format(" %10s", name)));
+        builder.append('\n');
+        for (StepResult step : steps) {
+            builder.append(String.format("%10.0f", step.targetRate()));
+            for (Map.Entry<String, Histogram> entry : step.histograms().entrySet()) {
+                builder.append(String.format(" %10.1f", millis(entry.getValue(), 99)));
+            }
+            builder.append('\n');
+        }
+
+        builder.append('\n');
+        if (knee >= 0) {
+            builder.append(String.format("p99 knee: %.0f req/s (이전 단계 %s)%n", steps.get(knee).targetRate(),
+                knee > 0 ? String.format("%.0f req/s", steps.get(knee - 1).targetRate()) : "없음"));
+        } else {
+            builder.append("p99 knee: 측정한 도착률 범위에서 발견되지 않음 (loadTest.rates를 더 높여 재실행)\n");
+        }
+        return builder.toString();
+    }
+
+    private int kneeIndex() {
+        if (steps.isEmpty()) {
+            return -1;
+        }
+        double baseline = millis(steps.get(0).total(), 99);
+        for (int i = 0; i < steps.size(); i++) {
+            StepResult step = steps.get(i);
+            if (millis(step.total(), 99) > baseline * kneeFactor || step.throughput() < step.targetRate() * 0.95) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
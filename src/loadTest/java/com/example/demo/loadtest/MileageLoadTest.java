@@ -0,0 +1,187 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.loadtest.OpenModelLoadDriver.LoadScenario;
+import com.example.demo.loadtest.OpenModelLoadDriver.StepResult;
+import com.example.demo.service.MileageService;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 마일리지 API 부하 테스트
+ *
+ * 1. local 프로파일(인메모리 H2)로 애플리케이션을 임의 포트에 기동
+ * 2. mileageDataGenerationJob, mileageAggregationJob으로 회원/이력/집계 데이터 생성
+ * 3. 목표 도착률을 단계별로 올리며 MileageController API에 개방형 부하 발생 (OpenModelLoadDriver)
+ * 4. 단계별 처리량과 지연 시간 백분위수(HdrHistogram)를 출력하고 p99 급증 지점(knee)을 표시
+ *
+ * loadTest.baseUrl을 지정하면 기동/데이터 생성 없이 이미 떠 있는 서버에 부하를 보냅니다.
+ *
+ * 설정 (시스템 프로퍼티, Gradle: ./gradlew loadTest -PloadTest.rates=200,400,800):
+ * - loadTest.rates: 단계별 목표 도착률 (초당 요청 수, 기본값 100,200,400,800,1600)
+ * - loadTest.stepSeconds: 단계별 부하 시간 (기본값 30)
+ * - loadTest.warmupSeconds: 첫 단계 전 워밍업 시간 (첫 단계 도착률, 결과 제외, 기본값 10)
+ * - loadTest.members / days / transactionsPerDay: 생성 데이터 규모 (기본값 10000 / 14 / 20000)
+ * - loadTest.maxInFlight: 동시 진행 요청 상한 (기본값 10000)
+ * - loadTest.timeoutSeconds: 요청 타임아웃 (기본값 30)
+ * - loadTest.kneeFactor: 첫 단계 p99의 몇 배를 넘으면 knee로 볼지 (기본값 3)
+ * - loadTest.baseUrl: 외부 서버 주소 (지정 시 기동 생략)
+ */
+public class MileageLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        List<Double> rates = Arrays.stream(System.getProperty("loadTest.rates", "100,200,400,800,1600").split(","))
+            .map(String::trim)
+            .map(Double::parseDouble)
+            .toList();
+        Duration stepDuration = Duration.ofSeconds(Long.getLong("loadTest.stepSeconds", 30));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadTest.warmupSeconds", 10));
+        int members = Integer.getInteger("loadTest.members", 10_000);
+        int days = Integer.getInteger("loadTest.days", 14);
+        int transactionsPerDay = Integer.getInteger("loadTest.transactionsPerDay", 20_000);
+        int maxInFlight = Integer.getInteger("loadTest.maxInFlight", 10_000);
+        Duration timeout = Duration.ofSeconds(Long.getLong("loadTest.timeoutSeconds", 30));
+        double kneeFactor = Double.parseDouble(System.getProperty("loadTest.kneeFactor", "3"));
+        String baseUrl = System.getProperty("loadTest.baseUrl");
+
+        ConfigurableApplicationContext context = null;
+        try {
+            if (baseUrl == null || baseUrl.isBlank()) {
+                context = startApplication();
+                baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+                prepareData(context, members, days, transactionsPerDay);
+            }
+
+            // 적립/사용은 부하 테스트 전용 API(LoadTestMileageController)이므로 직접 기동한 경우에만 포함
+            OpenModelLoadDriver driver = new OpenModelLoadDriver(baseUrl, scenarios(members, days, context != null),
+                maxInFlight, timeout);
+            LoadTestReport report = new LoadTestReport(kneeFactor);
+
+            System.out.printf("워밍업 - %.0f req/s, %ds%n", rates.get(0), warmup.toSeconds());
+            driver.run(rates.get(0), warmup, 0L);
+
+            for (int i = 0; i < rates.size(); i++) {
+                System.out.printf("부하 단계 %d/%d - %.0f req/s, %ds%n", i + 1, rates.size(), rates.get(i),
+                    stepDuration.toSeconds());
+                StepResult result = driver.run(rates.get(i), stepDuration, i + 1L);
+                report.add(result);
+                System.out.println(report.stepSummary(result));
+            }
+
+            String text = report.render();
+            System.out.println(text);
+            Path reportFile = writeReport(text);
+            System.out.println("보고서: " + reportFile.toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * 부하 시나리오 (요청 비중: 잔액 조회 50, 적립 15, 사용 10, 이력 조회 15, 집계 조회 10)
+     *
+     * @param includeWrites 적립/사용 포함 여부 (외부 서버에는 부하 테스트 전용 API가 없으므로 false)
+     */
+    private static List<LoadScenario> scenarios(int members, int days, boolean includeWrites) {
+        LocalDate today = LocalDate.now();
+        List<LoadScenario> scenarios = new ArrayList<>();
+        scenarios.add(LoadScenario.get("balance", 50, random -> "/api/mileage/" + member(random, members)));
+        if (includeWrites) {
+            scenarios.add(LoadScenario.post("earn", 15, random -> "/load-test/mileage/" + member(random, members)
+                + "/earn?amount=" + random.nextInt(100, 10_001) + "&description=load-test"));
+            scenarios.add(LoadScenario.post("use", 10, random -> "/load-test/mileage/" + member(random, members)
+                + "/use?amount=" + random.nextInt(1, 101) + "&description=load-test"));
+        }
+        scenarios.add(LoadScenario.get("history", 15, random -> {
+            LocalDate start = today.minusDays(random.nextInt(days));
+            return "/api/mileage/" + member(random, members) + "/history?startDate=" + start + "&endDate=" + today;
+        }));
+        scenarios.add(LoadScenario.get("summary", 10, random -> "/api/mileage/summary/range?startDate="
+            + today.minusDays(days - 1L) + "&endDate=" + today));
+        return scenarios;
+    }
+
+    private static long member(SplittableRandom random, int members) {
+        return random.nextLong(1, members + 1L);
+    }
+
+    /**
+     * local 프로파일로 임의 포트에 기동 (기동 시 배치 실행 끔, 배치 메타데이터도 인메모리)
+     * load-test 프로파일로 부하 테스트 전용 적립/사용 API(LoadTestMileageController)를 등록
+     */
+    private static ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(DemoApplication.class)
+            .profiles("local", "load-test")
+            .properties(
+                "server.port=0",
+                "management.server.port=0",
+                "mileage.startup-job.mode=off",
+                "batch.datasource.url=jdbc:h2:mem:load-test-batch-meta;DB_CLOSE_DELAY=-1",
+                "spring.h2.console.enabled=false",
+                "logging.level.com.example.demo=WARN",
+                "logging.level.org.springframework.batch=WARN",
+                "logging.level.org.mybatis=WARN")
+            .run();
+    }
+
+    /**
+     * 데이터 생성 + 집계 후, 사용(use) 요청이 잔액 부족으로 실패하지 않도록 전 회원에 충분한 금액 적립
+     */
+    private static void prepareData(ConfigurableApplicationContext context, int members, int days,
+                                    int transactionsPerDay) throws Exception {
+        JobLauncher jobLauncher = context.getBean("jobLauncher", JobLauncher.class);
+        runJob(jobLauncher, context.getBean("mileageDataGenerationJob", Job.class), new JobParametersBuilder()
+            .addString("members", String.valueOf(members))
+            .addString("days", String.valueOf(days))
+            .addString("transactionsPerDay", String.valueOf(transactionsPerDay)));
+        runJob(jobLauncher, context.getBean("mileageAggregationJob", Job.class), new JobParametersBuilder()
+            .addString("days", String.valueOf(days)));
+
+        MileageService mileageService = context.getBean(MileageService.class);
+        for (long memberId = 1; memberId <= members; memberId++) {
+            mileageService.earnMileage(memberId, 1_000_000, "load-test 초기 적립");
+        }
+        System.out.printf("데이터 준비 완료 - 회원: %d, 기간: %d일, 일별 거래: %d건%n", members, days, transactionsPerDay);
+    }
+
+    private static void runJob(JobLauncher jobLauncher, Job job, JobParametersBuilder parameters) throws Exception {
+        JobExecution execution = jobLauncher.run(job, parameters
+            .addLong("timestamp", System.currentTimeMillis())
+            .toJobParameters());
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException(job.getName() + " 실패: " + execution.getExitStatus());
+        }
+    }
+
+    private static Path writeReport(String text) throws IOException {
+        Path directory = Path.of(System.getProperty("loadTest.reportDir", "build/reports/load-test"));
+        Files.createDirectories(directory);
+        Path file = directory.resolve("load-test-"
+            + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        Files.writeString(file, text);
+        return file;
+    }
+
+    private MileageLoadTest() {
+    }
+}
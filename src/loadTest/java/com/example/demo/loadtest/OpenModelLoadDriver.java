@@ -0,0 +1,224 @@
+package com.example.demo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-model) 부하 발생기
+ *
+ * 응답을 기다리지 않고 목표 도착률(초당 요청 수)에 따라 요청을 보냅니다.
+ * 도착 간격은 지수 분포(포아송 도착)로 정하며, 요청마다 가상 스레드 하나에서 동기 HTTP 호출을 수행합니다.
+ *
+ * 지연 시간은 실제 전송 시각이 아니라 "보냈어야 할 시각(intended start)"부터 응답 완료까지로 기록합니다.
+ * 서버가 느려져 발생기가 밀리더라도 밀린 시간이 지연 시간에 포함되므로 coordinated omission이 생기지 않습니다.
+ *
+ * 동시 진행 요청이 maxInFlight를 넘으면 더 보내지 않고 overload로 집계합니다 (발생기 자체의 메모리 보호).
+ * 보내지 못한 요청도 지연 시간 분포에서 빠지지 않도록 요청 타임아웃 값으로 히스토그램에 기록합니다.
+ *
+ * 처리량은 성공 응답 수를 부하 시간(duration)으로 나눈 값이며, 마지막 요청 이후 응답을 기다린 시간은 포함하지 않습니다.
+ */
+public class OpenModelLoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final List<LoadScenario> scenarios;
+    private final int maxInFlight;
+    private final Duration requestTimeout;
+
+    public OpenModelLoadDriver(String baseUrl, List<LoadScenario> scenarios, int maxInFlight, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.scenarios = scenarios;
+        this.maxInFlight = maxInFlight;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    /**
+     * 목표 도착률로 지정 시간 동안 부하 발생
+     *
+     * @param ratePerSecond 목표 도착률 (초당 요청 수)
+     * @param duration 부하 시간
+     * @param seed 난수 seed (시나리오 선택, 도착 간격, 요청 파라미터)
+     * @return 단계 결과 (시나리오별 지연 시간 히스토그램, 처리량, 오류 수)
+     */
+    public StepResult run(double ratePerSecond, Duration duration, long seed) throws InterruptedException {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        Map<String, LongAdder> errors = new LinkedHashMap<>();
+        for (LoadScenario scenario : scenarios) {
+            recorders.put(scenario.name(), new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(scenario.name(), new LongAdder());
+        }
+        LongAdder overload = new LongAdder();
+        AtomicInteger inFlight = new AtomicInteger();
+        SplittableRandom random = new SplittableRandom(seed);
+        double totalWeight = scenarios.stream().mapToDouble(LoadScenario::weight).sum();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long overloadNanos = Math.min(requestTimeout.toNanos(), HIGHEST_TRACKABLE_NANOS);
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intendedStart = start;
+        long sent = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                intendedStart += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                LoadScenario scenario = pick(random, totalWeight);
+                if (inFlight.get() >= maxInFlight) {
+                    // 보내지 못한 요청은 타임아웃으로 간주 (생존 편향 방지)
+                    overload.increment();
+                    recorders.get(scenario.name()).recordValue(overloadNanos);
+                    continue;
+                }
+                HttpRequest request = scenario.request(baseUrl, random.split())
+                    .timeout(requestTimeout)
+                    .build();
+                long scheduledAt = intendedStart;
+                inFlight.incrementAndGet();
+                sent++;
+                executor.execute(() -> {
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors.get(scenario.name()).increment();
+                        }
+                    } catch (Exception e) {
+                        errors.get(scenario.name()).increment();
+                    } finally {
+                        // 보냈어야 할 시각 기준 지연 시간 (coordinated omission 보정)
+                        recorders.get(scenario.name()).recordValue(
+                            Math.min(System.nanoTime() - scheduledAt, HIGHEST_TRACKABLE_NANOS));
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        }  // close()는 진행 중인 요청이 모두 끝날 때까지 대기
+
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> histograms.put(name, recorder.getIntervalHistogram()));
+        errors.forEach((name, count) -> errorCounts.put(name, count.sum()));
+        return new StepResult(ratePerSecond, sent, overload.sum(), duration.toNanos(), histograms, errorCounts);
+    }
+
+    private LoadScenario pick(SplittableRandom random, double totalWeight) {
+        double point = random.nextDouble() * totalWeight;
+        for (LoadScenario scenario : scenarios) {
+            point -= scenario.weight();
+            if (point < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    /**
+     * 부하 단계 결과
+     *
+     * @param targetRate 목표 도착률 (초당 요청 수)
+     * @param sent 보낸 요청 수
+     * @param overload maxInFlight 초과로 보내지 않은 요청 수
+     * @param durationNanos 부하 시간 (마지막 응답 대기 시간 제외)
+     * @param histograms 시나리오별 지연 시간 히스토그램 (나노초, overload는 요청 타임아웃 값으로 포함)
+     * @param errors 시나리오별 오류 수 (4xx/5xx, 타임아웃, 연결 실패)
+     */
+    public record StepResult(double targetRate, long sent, long overload, long durationNanos,
+                             Map<String, Histogram> histograms, Map<String, Long> errors) {
+
+        public Histogram total() {
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+            histograms.values().forEach(total::add);
+            return total;
+        }
+
+        public long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * 초당 성공 응답 수 (부하 시간 기준)
+         */
+        public double throughput() {
+            return (sent - errorCount()) / (durationNanos / 1e9);
+        }
+    }
+
+    /**
+     * 부하 시나리오 (요청 종류와 비중)
+     */
+    public interface LoadScenario {
+
+        String name();
+
+        double weight();
+
+        HttpRequest.Builder request(String baseUrl, SplittableRandom random);
+
+        static LoadScenario get(String name, double weight, PathFactory path) {
+            return of(name, weight, (baseUrl, random) -> HttpRequest.newBuilder(URI.create(baseUrl + path.create(random))).GET());
+        }
+
+        static LoadScenario post(String name, double weight, PathFactory path) {
+            return of(name, weight, (baseUrl, random) -> HttpRequest.newBuilder(URI.create(baseUrl + path.create(random)))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        }
+
+        private static LoadScenario of(String name, double weight, RequestFactory factory) {
+            return new LoadScenario() {
+                @Override
+                public String name() {
+                    return name;
+                }
+
+                @Override
+                public double weight() {
+                    return weight;
+                }
+
+                @Override
+                public HttpRequest.Builder request(String baseUrl, SplittableRandom random) {
+                    return factory.create(baseUrl, random);
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    public interface PathFactory {
+        String create(SplittableRandom random);
+    }
+
+    @FunctionalInterface
+    interface RequestFactory {
+        HttpRequest.Builder create(String baseUrl, SplittableRandom random);
+    }
+}
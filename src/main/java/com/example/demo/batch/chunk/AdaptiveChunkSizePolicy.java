@@ -0,0 +1,257 @@
+package com.example.demo.batch.chunk;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 적응형 청크 크기(커밋 간격) 정책
+ * 실행 중 관측한 청크 처리 시간, 쓰기 시간, 롤백 여부로 다음 청크의 크기를 조정
+ *
+ * sampleChunks개 청크마다 한 번씩 평가합니다.
+ * - 롤백이 있었으면 크기를 절반으로 줄입니다.
+ * - 청크 처리 시간이 maxChunkLatencyMs를 넘으면 크기를 3/4로 줄입니다 (잠금 보유 시간 제한).
+ * - 항목당 쓰기 시간이 지금까지 관측한 최소값의 contentionFactor배를 넘으면(잠금 대기 등 경합) 크기를 3/4로 줄입니다.
+ * - 그 밖에는 growthRatio만큼 키워 보고, 키운 뒤 처리량(건/초)이 tolerance 이상 좋아지면 계속 키웁니다.
+ *   나빠지면 직전 크기로 되돌리고, 차이가 없으면 그대로 두며, 어느 쪽이든 cooldownSamples번 평가 동안 유지한 뒤 다시 탐색합니다.
+ * 크기는 항상 [minSize, maxSize] 범위로 제한하며(초기 크기가 범위를 벗어나면 경고 로그), 현재 크기는 Gauge(batch.chunk.size, 태그 step)로 노출합니다.
+ * 조정하지 않는(adaptive=false) 정책은 초기 크기를 그대로 사용합니다.
+ *
+ * Step에 ChunkListener와 ItemWriteListener로 함께 등록해야 관측값이 수집되고,
+ * StepExecutionListener로도 등록해야 Step 종료 시 Gauge가 제거됩니다 (같은 Step 이름으로 실행 중인 다른 인스턴스가 없을 때).
+ * 파티션 Worker Step처럼 Step 실행마다 별도 인스턴스(@StepScope)로 사용합니다.
+ */
+@Slf4j
+public class AdaptiveChunkSizePolicy extends SimpleCompletionPolicy
+        implements ChunkListener, ItemWriteListener<Object>, StepExecutionListener {
+
+    private static final String METRIC_NAME = "batch.chunk.size";
+    private static final Map<String, ChunkSizeGauge> CHUNK_SIZE_GAUGES = new ConcurrentHashMap<>();
+
+    private final boolean adaptive;
+    private final int minSize;
+    private final int maxSize;
+    private final int sampleChunks;
+    private final long maxChunkLatencyNanos;
+    private final double growthRatio;
+    private final double tolerance;
+    private final double contentionFactor;
+    private final int cooldownSamples;
+
+    private final ThreadLocal<Long> chunkStart = new ThreadLocal<>();
+    private final ThreadLocal<Long> writeStart = new ThreadLocal<>();
+
+    private ChunkSizeGauge gauge;
+    private String stepName;
+
+    private int sampledChunks;
+    private long sampledItems;
+    private long sampledChunkNanos;
+    private long sampledWriteNanos;
+    private long maxSampledChunkNanos;
+    private boolean rolledBack;
+
+    private double lastThroughput;
+    private double minWriteNanosPerItem = Double.MAX_VALUE;
+    private int lastIncrement;
+    private int cooldown;
+
+    public AdaptiveChunkSizePolicy(int initialSize, boolean adaptive, int minSize, int maxSize, int sampleChunks,
+                                   long maxChunkLatencyMs, double growthRatio, double tolerance,
+                                   double contentionFactor, int cooldownSamples) {
+        this.adaptive = adaptive;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.sampleChunks = Math.max(1, sampleChunks);
+        this.maxChunkLatencyNanos = maxChunkLatencyMs * 1_000_000L;
+        this.growthRatio = growthRatio;
+        this.tolerance = tolerance;
+        this.contentionFactor = contentionFactor;
+        this.cooldownSamples = cooldownSamples;
+        int chunkSize = adaptive ? clamp(initialSize) : initialSize;
+        if (chunkSize != initialSize) {
+            log.warn("초기 청크 크기 {}가 조정 범위 [{}, {}]를 벗어나 {}로 시작합니다 (고정하려면 adaptiveChunk=false)",
+                initialSize, minSize, maxSize, chunkSize);
+        }
+        setChunkSize(chunkSize);
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        if (gauge == null) {
+            stepName = context.getStepContext().getStepName();
+            gauge = CHUNK_SIZE_GAUGES.compute(stepName, (name, existing) -> {
+                ChunkSizeGauge value = existing != null ? existing : new ChunkSizeGauge(name);
+                value.users++;
+                return value;
+            });
+            gauge.value.set(getChunkSize());
+        }
+        chunkStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        writeStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        Long start = writeStart.get();
+        writeStart.remove();
+        if (start != null) {
+            synchronized (this) {
+                sampledWriteNanos += System.nanoTime() - start;
+                sampledItems += items.size();
+            }
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        Long start = chunkStart.get();
+        chunkStart.remove();
+        if (start == null || !adaptive) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        synchronized (this) {
+            sampledChunks++;
+            sampledChunkNanos += elapsed;
+            maxSampledChunkNanos = Math.max(maxSampledChunkNanos, elapsed);
+            if (sampledChunks >= sampleChunks) {
+                adjust();
+            }
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        chunkStart.remove();
+        if (!adaptive) {
+            return;
+        }
+        synchronized (this) {
+            rolledBack = true;
+            sampledChunks++;
+            if (sampledChunks >= sampleChunks) {
+                adjust();
+            }
+        }
+    }
+
+    /**
+     * Step 종료 시 Gauge 사용을 반납하고, 같은 Step 이름으로 실행 중인 인스턴스가 없으면 Gauge를 제거
+     */
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ChunkSizeGauge released = gauge;
+        if (released != null) {
+            CHUNK_SIZE_GAUGES.computeIfPresent(stepName, (name, existing) -> {
+                if (existing != released || --existing.users > 0) {
+                    return existing;
+                }
+                Metrics.globalRegistry.remove(existing.meter);
+                return null;
+            });
+            gauge = null;
+        }
+        return null;
+    }
+
+    /**
+     * 관측 구간의 지표로 다음 청크 크기 결정
+     */
+    private void adjust() {
+        int current = getChunkSize();
+        int next = current;
+        String reason;
+
+        double throughput = sampledChunkNanos > 0 ? sampledItems * 1_000_000_000.0 / sampledChunkNanos : 0;
+        double writeNanosPerItem = sampledItems > 0 ? (double) sampledWriteNanos / sampledItems : 0;
+        if (sampledItems > 0 && !rolledBack) {
+            minWriteNanosPerItem = Math.min(minWriteNanosPerItem, writeNanosPerItem);
+        }
+
+        if (rolledBack) {
+            next = current / 2;
+            reason = "롤백";
+            cooldown = cooldownSamples;
+        } else if (maxSampledChunkNanos > maxChunkLatencyNanos) {
+            next = current * 3 / 4;
+            reason = "청크 처리 시간 초과";
+            cooldown = cooldownSamples;
+        } else if (writeNanosPerItem > minWriteNanosPerItem * contentionFactor) {
+            next = current * 3 / 4;
+            reason = "쓰기 경합";
+            cooldown = cooldownSamples;
+        } else if (lastIncrement > 0 && throughput < lastThroughput * (1 - tolerance)) {
+            next = current - lastIncrement;
+            reason = "처리량 감소로 되돌림";
+            cooldown = cooldownSamples;
+        } else if (cooldown > 0) {
+            cooldown--;
+            reason = "유지";
+        } else if (lastIncrement > 0 && throughput < lastThroughput * (1 + tolerance)) {
+            reason = "처리량 정체";
+            cooldown = cooldownSamples;
+        } else {
+            // 처음이거나, 직전 확대로 처리량이 좋아졌거나, 유지 기간이 끝나 다시 탐색
+            next = current + Math.max(1, (int) (current * growthRatio));
+            reason = "확대";
+        }
+
+        next = clamp(next);
+        lastIncrement = next > current ? next - current : 0;
+        lastThroughput = throughput;
+        setChunkSize(next);
+        if (gauge != null) {
+            gauge.value.set(next);
+        }
+
+        if (next != current) {
+            log.info("청크 크기 조정 - Step: {}, {} -> {} ({}), 처리량: {}건/초, 최대 청크 시간: {}ms, 항목당 쓰기: {}us",
+                stepName, current, next, reason, (long) throughput, maxSampledChunkNanos / 1_000_000,
+                (long) (writeNanosPerItem / 1000));
+        }
+
+        sampledChunks = 0;
+        sampledItems = 0;
+        sampledChunkNanos = 0;
+        sampledWriteNanos = 0;
+        maxSampledChunkNanos = 0;
+        rolledBack = false;
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+
+    /**
+     * Step 이름별 청크 크기 Gauge (users: 사용 중인 정책 인스턴스 수, CHUNK_SIZE_GAUGES.compute 안에서만 변경)
+     */
+    private static final class ChunkSizeGauge {
+        private final AtomicInteger value = new AtomicInteger();
+        private final Gauge meter;
+        private int users;
+
+        private ChunkSizeGauge(String stepName) {
+            this.meter = Gauge.builder(METRIC_NAME, value, AtomicInteger::get)
+                .description("배치 Step의 현재 청크 크기(커밋 간격)")
+                .tag("step", stepName)
+                .register(Metrics.globalRegistry);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.batch.chunk;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 적응형 청크 크기 정책 생성기
+ * batch.adaptive-chunk.* 설정(환경별 상한/하한 등)으로 AdaptiveChunkSizePolicy를 생성
+ *
+ * batch.adaptive-chunk.enabled=false이면 초기 크기로 고정된 정책을 생성합니다.
+ */
+@Component
+public class AdaptiveChunkSizePolicyFactory {
+
+    @Value("${batch.adaptive-chunk.enabled:true}")
+    private boolean enabled;
+
+    @Value("${batch.adaptive-chunk.min-size:100}")
+    private int minSize;
+
+    @Value("${batch.adaptive-chunk.max-size:10000}")
+    private int maxSize;
+
+    @Value("${batch.adaptive-chunk.sample-chunks:3}")
+    private int sampleChunks;
+
+    @Value("${batch.adaptive-chunk.max-chunk-latency-ms:5000}")
+    private long maxChunkLatencyMs;
+
+    @Value("${batch.adaptive-chunk.growth-ratio:0.25}")
+    private double growthRatio;
+
+    @Value("${batch.adaptive-chunk.tolerance:0.05}")
+    private double tolerance;
+
+    @Value("${batch.adaptive-chunk.contention-factor:3.0}")
+    private double contentionFactor;
+
+    @Value("${batch.adaptive-chunk.cooldown-samples:5}")
+    private int cooldownSamples;
+
+    /**
+     * 적응형 청크 크기 정책 생성
+     *
+     * @param initialSize 초기 청크 크기 (Job 파라미터 또는 Job별 기본값)
+     * @param adaptive 크기 조정 여부 (false면 초기 크기 고정)
+     */
+    public AdaptiveChunkSizePolicy create(int initialSize, boolean adaptive) {
+        return new AdaptiveChunkSizePolicy(initialSize, enabled && adaptive, minSize, maxSize, sampleChunks,
+            maxChunkLatencyMs, growthRatio, tolerance, contentionFactor, cooldownSamples);
+    }
+
+    /**
+     * Job 파라미터(chunkSize, adaptiveChunk)로 청크 크기 정책 생성
+     *
+     * chunkSize를 지정하면 그 크기로 고정합니다 (adaptiveChunk=true를 함께 지정한 경우만 초기 크기로 사용하여 조정).
+     * 지정하지 않으면 defaultSize에서 시작하여 조정합니다 (adaptiveChunk=false이면 고정).
+     *
+     * @param chunkSize Job 파라미터 chunkSize (없으면 null)
+     * @param adaptiveChunk Job 파라미터 adaptiveChunk (없으면 null)
+     * @param defaultSize Job별 기본 청크 크기
+     */
+    public AdaptiveChunkSizePolicy create(String chunkSize, String adaptiveChunk, int defaultSize) {
+        boolean adaptive = adaptiveChunk != null ? Boolean.parseBoolean(adaptiveChunk) : chunkSize == null;
+        return create(chunkSize != null ? Integer.parseInt(chunkSize) : defaultSize, adaptive);
+    }
+}
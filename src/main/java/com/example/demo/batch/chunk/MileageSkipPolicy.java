@@ -0,0 +1,38 @@
+package com.example.demo.batch.chunk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.batch.item.ParseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마일리지 Chunk Step 스킵 정책
+ * 데이터 자체가 잘못된 항목(변환 실패, 제약 조건 위반)만 건너뛰고, 그 밖의 오류는 Step을 실패시킴
+ *
+ * - ParseException: Reader의 행 변환 실패 (MappedCsvRangeReader)
+ * - DataIntegrityViolationException: 쓰기 제약 조건 위반 (BisectingItemWriter를 쓰지 않는 Step의 한 건씩 재처리)
+ * 커넥션 오류 같은 일시적 오류는 스킵하지 않고 Step의 retry 설정으로 처리합니다.
+ *
+ * Step당 스킵 건수가 mileage.skip.limit을 넘으면 입력 자체가 잘못된 것으로 보고 Step을 실패시킵니다.
+ */
+@Slf4j
+@Component
+public class MileageSkipPolicy implements SkipPolicy {
+
+    @Value("${mileage.skip.limit:1000}")
+    private long skipLimit;
+
+    @Override
+    public boolean shouldSkip(Throwable t, long skipCount) throws SkipLimitExceededException {
+        if (!(t instanceof ParseException) && !(t instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        if (skipCount >= skipLimit) {
+            throw new SkipLimitExceededException(skipLimit, t);
+        }
+        return true;
+    }
+}
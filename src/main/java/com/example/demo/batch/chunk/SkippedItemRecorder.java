@@ -0,0 +1,72 @@
+package com.example.demo.batch.chunk;
+
+import com.example.demo.domain.MileageSkippedItem;
+import com.example.demo.mapper.MileageSkippedItemMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스킵 항목 기록기
+ * 건너뛴 항목을 MILEAGE_SKIPPED_ITEM 테이블에 저장
+ *
+ * 현재 청크 트랜잭션 안에서 저장하므로 청크가 롤백되면 스킵 기록도 함께 롤백됩니다.
+ * Job/Step 정보는 현재 스레드의 Step 실행 컨텍스트에서 가져옵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkippedItemRecorder {
+
+    public static final String PHASE_READ = "READ";
+    public static final String PHASE_PROCESS = "PROCESS";
+    public static final String PHASE_WRITE = "WRITE";
+
+    private static final int MAX_ITEM_LENGTH = 4000;
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final MileageSkippedItemMapper skippedItemMapper;
+
+    /**
+     * 스킵 항목 저장
+     *
+     * @param phase 실패 단계 (READ, PROCESS, WRITE)
+     * @param item 항목 (읽기 실패는 null)
+     * @param error 실패 원인
+     */
+    public void record(String phase, Object item, Throwable error) {
+        MileageSkippedItem skippedItem = MileageSkippedItem.builder()
+            .phase(phase)
+            .item(truncate(item != null ? item.toString() : null, MAX_ITEM_LENGTH))
+            .errorMessage(truncate(rootCauseMessage(error), MAX_ERROR_MESSAGE_LENGTH))
+            .build();
+
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext != null) {
+            StepExecution stepExecution = stepContext.getStepExecution();
+            skippedItem.setJobName(stepExecution.getJobExecution().getJobInstance().getJobName());
+            skippedItem.setStepName(stepExecution.getStepName());
+            skippedItem.setStepExecutionId(stepExecution.getId());
+        }
+
+        skippedItemMapper.insert(skippedItem);
+        log.warn("항목 스킵 - 단계: {}, Step: {}, 항목: {}, 오류: {}",
+            phase, skippedItem.getStepName(), skippedItem.getItem(), skippedItem.getErrorMessage());
+    }
+
+    private String rootCauseMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+        return cause == error ? message : error.getClass().getSimpleName() + ": " + message;
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.batch.chunk;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 항목별 처리 시간을 측정하는 ItemProcessor 데코레이터
+ *
+ * 위임 Processor의 처리 시간을 Micrometer Timer(batch.item.process)로 기록합니다.
+ * 태그: processor(Processor 이름), result(processed / filtered / failed)
+ * AsyncItemProcessor의 위임 Processor로 사용하면 작업 스레드에서의 항목별 지연 시간이 측정됩니다.
+ *
+ * @param <I> 입력 타입
+ * @param <O> 출력 타입
+ */
+public class TimedItemProcessor<I, O> implements ItemProcessor<I, O> {
+
+    private static final String METRIC_NAME = "batch.item.process";
+
+    private final ItemProcessor<I, O> delegate;
+    private final String processorName;
+
+    public TimedItemProcessor(ItemProcessor<I, O> delegate, String processorName) {
+        this.delegate = delegate;
+        this.processorName = processorName;
+    }
+
+    @Override
+    public O process(I item) throws Exception {
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        String result = "failed";
+        try {
+            O output = delegate.process(item);
+            result = output != null ? "processed" : "filtered";
+            return output;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("배치 항목별 처리 시간")
+                    .tag("processor", processorName)
+                    .tag("result", result)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(Metrics.globalRegistry));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.batch.chunk;
 
 import com.example.demo.domain.User;
+import com.example.demo.logging.LogMarkers;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,10 @@ import org.springframework.stereotype.Component;
  * ItemProcessor는 읽어온 데이터를 가공하는 역할을 합니다.
  * 데이터 변환, 검증, 필터링 등의 비즈니스 로직을 수행합니다.
  * null을 반환하면 해당 데이터는 Writer로 전달되지 않고 필터링됩니다.
+ *
+ * 상태를 갖지 않으므로 멀티스레드 Step에서 여러 스레드가 동시에 호출해도 안전합니다.
+ *
+ * 항목별 로그는 DEBUG로 남기고 ITEM Marker를 붙여 샘플링합니다 (mileage.logging.sampling.item-rate).
  */
 @Slf4j
 @Component
@@ -30,12 +35,12 @@ public class UserItemProcessor implements ItemProcessor<User, User> {
      */
     @Override
     public User process(User user) throws Exception {
-        log.info("데이터 처리 시작: ID={}, Name={}, Active={}",
+        log.debug(LogMarkers.ITEM, "데이터 처리 시작: ID={}, Name={}, Active={}",
                 user.getId(), user.getName(), user.isActive());
 
         // 비활성 사용자는 필터링 (null 반환)
         if (!user.isActive()) {
-            log.info("비활성 사용자 필터링: ID={}, Name={}", user.getId(), user.getName());
+            log.debug(LogMarkers.ITEM, "비활성 사용자 필터링: ID={}, Name={}", user.getId(), user.getName());
             return null;  // null 반환 시 Writer로 전달되지 않음
         }
 
@@ -47,7 +52,7 @@ public class UserItemProcessor implements ItemProcessor<User, User> {
                 user.isActive()
         );
 
-        log.info("데이터 처리 완료: ID={}, 변환된 Name={}",
+        log.debug(LogMarkers.ITEM, "데이터 처리 완료: ID={}, 변환된 Name={}",
                 processedUser.getId(), processedUser.getName());
 
         return processedUser;
@@ -1,7 +1,9 @@
 package com.example.demo.batch.chunk;
 
 import com.example.demo.domain.User;
+import com.example.demo.logging.LogMarkers;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.stereotype.Component;
 
@@ -14,9 +16,14 @@ import java.util.List;
  * ItemReader는 데이터 소스로부터 데이터를 읽어오는 역할을 합니다.
  * 파일, 데이터베이스, 메시지 큐 등 다양한 소스로부터 데이터를 읽을 수 있습니다.
  * 이 예제에서는 메모리에 있는 리스트에서 데이터를 읽어옵니다.
+ *
+ * currentIndex는 동기화되지 않은 상태값이므로 여러 스레드에서 직접 공유하면 안 됩니다.
+ * 멀티스레드 Step에서는 SynchronizedItemReader로 감싸서 사용합니다 (ChunkJobConfig.multiThreadedChunkStep).
+ * Step 실행마다 새 인스턴스가 생성되도록 Step 범위(@StepScope)로 등록합니다.
  */
 @Slf4j
 @Component
+@StepScope
 public class UserItemReader implements ItemReader<User> {
 
     /**
@@ -60,7 +67,7 @@ public class UserItemReader implements ItemReader<User> {
 
         // 현재 인덱스의 데이터를 읽고 인덱스 증가
         User user = users.get(currentIndex++);
-        log.info("데이터 읽기: ID={}, Name={}", user.getId(), user.getName());
+        log.debug(LogMarkers.ITEM, "데이터 읽기: ID={}, Name={}", user.getId(), user.getName());
 
         return user;
     }
@@ -1,6 +1,7 @@
 package com.example.demo.batch.chunk;
 
 import com.example.demo.domain.User;
+import com.example.demo.logging.LogMarkers;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
@@ -14,6 +15,10 @@ import org.springframework.stereotype.Component;
  * 이 예제에서는 로그로 출력하는 간단한 구현을 보여줍니다.
  *
  * Chunk 단위로 데이터를 받아서 일괄 처리합니다.
+ *
+ * 상태를 갖지 않으므로 멀티스레드 Step에서 여러 스레드가 동시에 호출해도 안전합니다.
+ *
+ * 청크 단위 로그만 INFO로 남기고, 항목별 로그는 DEBUG 레벨이 켜진 경우에만 남기며 ITEM Marker로 샘플링합니다.
  */
 @Slf4j
 @Component
@@ -33,14 +38,17 @@ public class UserItemWriter implements ItemWriter<User> {
         log.info("=== 데이터 쓰기 시작 (Chunk 크기: {}) ===", chunk.size());
 
         // Chunk에 포함된 모든 아이템을 처리
+        boolean itemLogEnabled = log.isDebugEnabled();
         for (User user : chunk) {
             // 실제로는 데이터베이스에 저장하거나 파일에 쓰는 작업을 수행
-            // 이 예제에서는 로그로 출력
-            log.info("데이터 저장: ID={}, Name={}, Email={}, Active={}",
-                    user.getId(),
-                    user.getName(),
-                    user.getEmail(),
-                    user.isActive());
+            // 이 예제에서는 로그로 출력 (레벨 확인을 루프 밖에서 한 번만 수행)
+            if (itemLogEnabled) {
+                log.debug(LogMarkers.ITEM, "데이터 저장: ID={}, Name={}, Email={}, Active={}",
+                        user.getId(),
+                        user.getName(),
+                        user.getEmail(),
+                        user.isActive());
+            }
 
             // 실제 데이터베이스 저장 예시 (주석 처리)
             // userRepository.save(user);
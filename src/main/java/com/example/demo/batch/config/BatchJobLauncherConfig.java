@@ -0,0 +1,58 @@
+package com.example.demo.batch.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 JobLauncher 설정
+ *
+ * REST API로 요청한 Job은 HTTP 요청 스레드(Tomcat)가 아닌 전용 스레드 풀에서 실행하고,
+ * API는 Job 실행 ID를 즉시 반환합니다. 진행 상황은 실행 ID로 조회합니다 (GET /api/batch/executions/{id}).
+ *
+ * 자동 실행 Runner처럼 Job 종료까지 기다려야 하는 곳은 Spring Boot 기본 jobLauncher(동기)를 그대로 사용합니다.
+ */
+@Slf4j
+@Configuration
+public class BatchJobLauncherConfig {
+
+    /**
+     * Job 실행 전용 스레드 풀
+     * 동시에 실행되는 Job 수 = pool-size, 초과 요청은 queue-capacity만큼 대기하며
+     * 큐도 가득 차면 실행 요청이 거부되어 해당 JobExecution은 FAILED로 기록됩니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor jobLauncherTaskExecutor(
+            @Value("${batch.job-launcher.pool-size:4}") int poolSize,
+            @Value("${batch.job-launcher.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        log.info("Job 실행 TaskExecutor 생성 - 스레드 수: {}, 큐 크기: {}", poolSize, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 비동기 JobLauncher
+     * run()은 JobExecution을 생성(STARTING)한 뒤 바로 반환하고, Job은 jobLauncherTaskExecutor 스레드에서 실행됩니다.
+     */
+    @Bean
+    public JobLauncher asyncJobLauncher(JobRepository jobRepository,
+                                        ThreadPoolTaskExecutor jobLauncherTaskExecutor) throws Exception {
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(jobLauncherTaskExecutor);
+        jobLauncher.afterPropertiesSet();
+        return jobLauncher;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.batch.config;
+
+import com.example.demo.batch.listener.BatchJobExecutionListener;
+import com.example.demo.batch.listener.BatchStepExecutionListener;
+import com.example.demo.batch.tasklet.BatchMetadataPurgeTasklet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.batch.BatchTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 배치 메타데이터 정리 Job 설정
+ * 보존 기간이 지난 Spring Batch 실행 이력(BATCH_* 테이블)을 청크 단위로 삭제
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class BatchMetadataPurgeJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final BatchMetadataPurgeTasklet purgeTasklet;
+    private final BatchJobExecutionListener batchJobExecutionListener;
+    private final BatchStepExecutionListener batchStepExecutionListener;
+
+    /**
+     * 배치 메타데이터 정리 Job
+     *
+     * 실행 예:
+     * POST /api/batch/execute
+     * { "jobId": "batchMetadataPurgeJob", "jobParameters": { "retentionDays": "90", "chunkSize": "500" } }
+     */
+    @Bean
+    public Job batchMetadataPurgeJob(
+            @BatchTransactionManager ObjectProvider<PlatformTransactionManager> batchTransactionManager) {
+        return new JobBuilder("batchMetadataPurgeJob", jobRepository)
+            .listener(batchJobExecutionListener)
+            .start(batchMetadataPurgeStep(batchTransactionManager))
+            .build();
+    }
+
+    /**
+     * 배치 메타데이터 정리 Step
+     * 메타데이터 전용 DataSource가 있으면 그 TransactionManager로 청크마다 커밋
+     */
+    @Bean
+    public Step batchMetadataPurgeStep(
+            @BatchTransactionManager ObjectProvider<PlatformTransactionManager> batchTransactionManager) {
+        return new StepBuilder("batchMetadataPurgeStep", jobRepository)
+            .tasklet(purgeTasklet, batchTransactionManager.getIfAvailable(() -> transactionManager))
+            .listener(batchStepExecutionListener)
+            .build();
+    }
+}
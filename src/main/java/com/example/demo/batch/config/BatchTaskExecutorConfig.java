@@ -0,0 +1,68 @@
+package com.example.demo.batch.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 멀티스레드 Step 및 비동기 Processor용 TaskExecutor 설정
+ *
+ * 멀티스레드 Chunk Step은 청크(읽기 -> 처리 -> 쓰기 -> 커밋)를 여러 스레드에서 동시에 실행합니다.
+ * 스레드 수만큼 DB 커넥션을 동시에 사용하므로 pool-size는 커넥션 풀 크기보다 작게 설정해야 합니다.
+ *
+ * 동시 실행 수는 Step의 throttleLimit(Spring Batch 5에서 deprecated, 6.0에서 제거) 대신 스레드 풀 크기로 제한합니다.
+ * 스레드보다 많이 제출된 작업(파티션, 청크)은 큐에서 대기하고, 큐도 가득 차면 제출한 스레드가 직접 실행합니다.
+ * 단, Spring Batch 5의 멀티스레드 Step은 내부 기본 제한(4)이 남아 있어 pool-size를 4보다 크게 해도 청크는 4개까지만 동시 실행됩니다.
+ */
+@Slf4j
+@Configuration
+public class BatchTaskExecutorConfig {
+
+    /**
+     * 배치 Step 병렬 실행용 스레드 풀 (파티션 Step, 멀티스레드 Step)
+     * 동시 실행 수 = pool-size, 초과 작업은 queue-capacity만큼 대기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor batchTaskExecutor(
+            @Value("${batch.task-executor.pool-size:4}") int poolSize,
+            @Value("${batch.task-executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("batch-worker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        log.info("배치 TaskExecutor 생성 - 스레드 수: {}, 큐 크기: {}", poolSize, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 비동기 ItemProcessor(AsyncItemProcessor)용 스레드 풀
+     *
+     * 외부 서비스 호출처럼 I/O 대기가 긴 Processor를 청크 안에서 동시에 실행합니다.
+     * 큐가 가득 차면 호출 스레드(Step 스레드)가 직접 처리하여 자연스럽게 읽기 속도를 늦춥니다(backpressure).
+     */
+    @Bean
+    public ThreadPoolTaskExecutor asyncItemProcessorExecutor(
+            @Value("${batch.async-processor.pool-size:16}") int poolSize,
+            @Value("${batch.async-processor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("batch-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        log.info("비동기 Processor TaskExecutor 생성 - 스레드 수: {}, 큐 크기: {}", poolSize, queueCapacity);
+        return executor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.batch.config;
 
+import com.example.demo.batch.chunk.TimedItemProcessor;
 import com.example.demo.batch.chunk.UserItemProcessor;
 import com.example.demo.batch.chunk.UserItemReader;
 import com.example.demo.batch.chunk.UserItemWriter;
@@ -13,10 +14,16 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.batch.item.support.SynchronizedItemReader;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.concurrent.Future;
+
 /**
  * Chunk 기반 배치 Job 설정
  *
@@ -43,6 +50,8 @@ public class ChunkJobConfig {
     private final UserItemWriter userItemWriter;
     private final BatchJobExecutionListener batchJobExecutionListener;
     private final BatchStepExecutionListener batchStepExecutionListener;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+    private final ThreadPoolTaskExecutor asyncItemProcessorExecutor;
 
     /**
      * Chunk 기반 Job 정의
@@ -80,4 +89,106 @@ public class ChunkJobConfig {
                 .listener(batchStepExecutionListener)  // Step 리스너 등록
                 .build();
     }
+
+    /**
+     * 멀티스레드 Chunk 기반 Job 정의
+     *
+     * @return Job 인스턴스
+     */
+    @Bean
+    public Job multiThreadedChunkJob() {
+        log.info("multiThreadedChunkJob 빈 생성");
+        return new JobBuilder("multiThreadedChunkJob", jobRepository)
+                .listener(batchJobExecutionListener)
+                .start(multiThreadedChunkStep())
+                .build();
+    }
+
+    /**
+     * 멀티스레드 Chunk 기반 Step 정의
+     *
+     * 각 청크(읽기 -> 처리 -> 쓰기 -> 커밋)를 batchTaskExecutor의 스레드에서 병렬로 실행하여
+     * CPU를 많이 쓰는 Processor가 여러 코어를 사용하도록 합니다.
+     * - Reader: 상태(currentIndex)를 가진 UserItemReader를 SynchronizedItemReader로 감싸 read()를 직렬화
+     * - Processor / Writer: 상태가 없으므로 그대로 공유
+     *
+     * 재시작: 여러 스레드가 읽는 순서가 실행마다 달라지므로 "몇 번째까지 읽었는지"를 저장해도
+     * 그 이전 항목이 모두 커밋되었다는 보장이 없습니다. 따라서 읽기 위치를 저장하지 않고
+     * 재시작 시 처음부터 다시 읽으며, Writer는 같은 항목을 다시 써도 결과가 같도록(멱등) 구현해야 합니다.
+     * (DB 기반 예: MileageHistoryExportJobConfig.mileageHistoryExportParallelStep의 MERGE Writer)
+     *
+     * @return Step 인스턴스
+     */
+    @Bean
+    public Step multiThreadedChunkStep() {
+        log.info("multiThreadedChunkStep 빈 생성");
+        return new StepBuilder("multiThreadedChunkStep", jobRepository)
+                .<User, User>chunk(2, transactionManager)
+                .reader(new SynchronizedItemReader<>(userItemReader))  // read() 호출을 스레드 간 직렬화
+                .processor(userItemProcessor)
+                .writer(userItemWriter)
+                .taskExecutor(batchTaskExecutor)  // 청크를 여러 스레드에서 병렬 실행 (동시 실행 청크 수 = 스레드 수)
+                .listener(batchStepExecutionListener)
+                .build();
+    }
+
+    /**
+     * 비동기 처리 Chunk 기반 Job 정의
+     *
+     * @return Job 인스턴스
+     */
+    @Bean
+    public Job asyncChunkJob() {
+        log.info("asyncChunkJob 빈 생성");
+        return new JobBuilder("asyncChunkJob", jobRepository)
+                .listener(batchJobExecutionListener)
+                .start(asyncChunkStep())
+                .build();
+    }
+
+    /**
+     * 비동기 처리 Chunk 기반 Step 정의
+     *
+     * 외부 서비스 호출(보강, 이상거래 점수 등)처럼 I/O 대기가 긴 Processor용 Step입니다.
+     * - 읽기: Step 스레드에서 순서대로 읽음
+     * - 처리: AsyncItemProcessor가 항목마다 asyncItemProcessorExecutor에 제출하고 Future를 반환
+     *   (청크 처리 시간 = 항목 처리 시간의 합 -> 가장 느린 항목 수준)
+     * - 쓰기: AsyncItemWriter가 Future를 읽은 순서대로 기다려 결과를 꺼낸 뒤 UserItemWriter에 전달
+     *   (쓰기 순서는 읽은 순서와 같고, 필터링된(null) 항목은 제외)
+     *
+     * @return Step 인스턴스
+     */
+    @Bean
+    public Step asyncChunkStep() {
+        log.info("asyncChunkStep 빈 생성");
+        return new StepBuilder("asyncChunkStep", jobRepository)
+                .<User, Future<User>>chunk(2, transactionManager)
+                .reader(userItemReader)
+                .processor(asyncUserItemProcessor())
+                .writer(asyncUserItemWriter())
+                .listener(batchStepExecutionListener)
+                .build();
+    }
+
+    /**
+     * UserItemProcessor를 비동기로 실행하는 Processor
+     * 항목별 처리 시간은 batch.item.process{processor=userItemProcessor} 메트릭으로 기록
+     */
+    @Bean
+    public AsyncItemProcessor<User, User> asyncUserItemProcessor() {
+        AsyncItemProcessor<User, User> processor = new AsyncItemProcessor<>();
+        processor.setDelegate(new TimedItemProcessor<>(userItemProcessor, "userItemProcessor"));
+        processor.setTaskExecutor(asyncItemProcessorExecutor);
+        return processor;
+    }
+
+    /**
+     * 비동기 처리 결과(Future)를 읽은 순서대로 꺼내 UserItemWriter에 전달하는 Writer
+     */
+    @Bean
+    public AsyncItemWriter<User> asyncUserItemWriter() {
+        AsyncItemWriter<User> writer = new AsyncItemWriter<>();
+        writer.setDelegate(userItemWriter);
+        return writer;
+    }
 }
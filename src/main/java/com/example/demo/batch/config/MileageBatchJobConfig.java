@@ -1,50 +1,233 @@
 package com.example.demo.batch.config;
 
+import com.example.demo.batch.chunk.AdaptiveChunkSizePolicy;
+import com.example.demo.batch.chunk.AdaptiveChunkSizePolicyFactory;
+import com.example.demo.batch.generation.DailyPartitioner;
+import com.example.demo.batch.generation.MileageGenerationParameters;
+import com.example.demo.batch.generation.MileageGenerationStartDateListener;
+import com.example.demo.batch.generation.MileageHistoryGenerationReader;
+import com.example.demo.batch.generation.MileageMemberGenerationReader;
+import com.example.demo.batch.listener.BatchJobExecutionListener;
+import com.example.demo.batch.listener.BatchStepExecutionListener;
+import com.example.demo.batch.listener.ChunkMetricsListener;
 import com.example.demo.batch.tasklet.MileageAggregationTasklet;
-import com.example.demo.batch.tasklet.MileageDataGenerationTasklet;
+import com.example.demo.batch.tasklet.MileageBalanceAdjustmentTasklet;
+import com.example.demo.domain.Mileage;
+import com.example.demo.domain.MileageHistory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Map;
+
 /**
  * 마일리지 배치 Job 설정
  * 데이터 생성 및 일별 집계 배치 작업 정의
+ *
+ * 데이터 생성은 3개의 Step으로 구성됩니다.
+ * 1. mileageMemberGenerationStep: 회원 및 목표 잔액 생성
+ * 2. mileageHistoryGenerationStep: 일자별 파티션으로 이력을 병렬 생성 (batchTaskExecutor)
+ * 3. mileageBalanceAdjustmentStep: 이력 합계를 목표 잔액에 맞추는 조정 이력 생성 (SQL 한 번)
+ *
+ * 생성 규모는 Job 파라미터(members, days, transactionsPerDay, batchSize, seed)로 지정합니다.
+ * 회원/이력 생성은 Chunk 기반 Step으로 batchSize건(초기값, 관측한 처리량에 따라 batch.adaptive-chunk 범위에서 조정)마다 커밋하며, 생성 위치(회원 순번, 일자별 이력 순번, seed)를
+ * ExecutionContext에 저장합니다. 실패한 Job을 같은 파라미터로 다시 실행하면 완료된 Step과 파티션은 건너뛰고
+ * 실패한 파티션은 마지막 커밋 위치부터 이어서 생성합니다.
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class MileageBatchJobConfig {
 
+    private static final String INSERT_MILEAGE_SQL = """
+        INSERT INTO MILEAGE (member_id, balance, create_date, update_date)
+        VALUES (:memberId, :balance, :createDate, :updateDate)
+        """;
+
+    private static final String INSERT_HISTORY_SQL = """
+        INSERT INTO MILEAGE_HISTORY (MILEAGE_member_id, type, amount, description, create_date)
+        VALUES (:mileageMemberId, :type, :amount, :description, :createDate)
+        """;
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final MileageDataGenerationTasklet dataGenerationTasklet;
+    private final DataSource dataSource;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+    private final MileageGenerationParameters generationParameters;
+    private final AdaptiveChunkSizePolicyFactory adaptiveChunkSizePolicyFactory;
+    private final MileageBalanceAdjustmentTasklet balanceAdjustmentTasklet;
     private final MileageAggregationTasklet aggregationTasklet;
+    private final BatchJobExecutionListener batchJobExecutionListener;
+    private final MileageGenerationStartDateListener generationStartDateListener;
+    private final BatchStepExecutionListener batchStepExecutionListener;
+    private final ChunkMetricsListener chunkMetricsListener;
 
     /**
      * 마일리지 데이터 생성 Job
-     * 100,000명의 회원과 한 달간의 마일리지 히스토리 생성
+     * 회원과 기간 내 마일리지 히스토리 생성
+     *
+     * 실행 예:
+     * POST /api/batch/execute
+     * { "jobId": "mileageDataGenerationJob",
+     *   "jobParameters": { "members": "1000000", "days": "100", "transactionsPerDay": "1000000", "batchSize": "5000", "seed": "42" } }
      */
     @Bean
     public Job mileageDataGenerationJob() {
         return new JobBuilder("mileageDataGenerationJob", jobRepository)
-            .start(mileageDataGenerationStep())
+            .listener(batchJobExecutionListener)
+            .listener(generationStartDateListener)
+            .start(mileageMemberGenerationStep())
+            .next(mileageHistoryGenerationStep())
+            .next(mileageBalanceAdjustmentStep())
+            .build();
+    }
+
+    /**
+     * 회원 마일리지 생성 Step
+     * batchSize건씩 생성하여 JDBC 배치 insert 후 커밋
+     */
+    @Bean
+    public Step mileageMemberGenerationStep() {
+        return new StepBuilder("mileageMemberGenerationStep", jobRepository)
+            .<Mileage, Mileage>chunk(generationCompletionPolicy(null), transactionManager)
+            .reader(mileageMemberGenerationReader(null))
+            .writer(mileageMemberGenerationWriter())
+            .listener((ChunkListener) generationCompletionPolicy(null))
+            .listener((ItemWriteListener<Object>) generationCompletionPolicy(null))
+            .listener((StepExecutionListener) generationCompletionPolicy(null))
+            .listener(batchStepExecutionListener)
+            .listener(chunkMetricsListener)
+            .build();
+    }
+
+    /**
+     * 마일리지 이력 생성 Step (Manager)
+     * 생성 기간을 일자별 파티션으로 나누어 Worker Step을 batchTaskExecutor 스레드에서 병렬 실행
+     * 파티션마다 별도 StepExecution과 트랜잭션(커넥션)으로 처리됩니다.
+     */
+    @Bean
+    public Step mileageHistoryGenerationStep() {
+        return new StepBuilder("mileageHistoryGenerationStep", jobRepository)
+            .partitioner("mileageHistoryDayGenerationStep", dailyPartitioner(null, null))
+            .step(mileageHistoryDayGenerationStep())
+            .taskExecutor(batchTaskExecutor)
+            .listener(batchStepExecutionListener)
+            .build();
+    }
+
+    /**
+     * 일자별 마일리지 이력 생성 Step (Worker)
+     * batchSize건씩 생성하여 JDBC 배치 insert 후 커밋
+     */
+    @Bean
+    public Step mileageHistoryDayGenerationStep() {
+        return new StepBuilder("mileageHistoryDayGenerationStep", jobRepository)
+            .<MileageHistory, MileageHistory>chunk(generationCompletionPolicy(null), transactionManager)
+            .reader(mileageHistoryGenerationReader(null, null, null))
+            .writer(mileageHistoryGenerationWriter())
+            .listener((ChunkListener) generationCompletionPolicy(null))
+            .listener((ItemWriteListener<Object>) generationCompletionPolicy(null))
+            .listener((StepExecutionListener) generationCompletionPolicy(null))
+            .listener(chunkMetricsListener)
+            .build();
+    }
+
+    /**
+     * 생성 기간을 일자별로 나누는 Partitioner
+     * 시작일은 Job 시작 시 고정한 값(Job ExecutionContext의 startDate)을 사용
+     */
+    @Bean
+    @StepScope
+    public DailyPartitioner dailyPartitioner(@Value("#{jobParameters}") Map<String, Object> jobParameters,
+            @Value("#{jobExecutionContext['startDate']}") String startDate) {
+        MileageGenerationParameters.Volume volume = generationParameters.resolve(jobParameters);
+        return new DailyPartitioner(startDate != null ? LocalDate.parse(startDate) : volume.startDate(), volume.days());
+    }
+
+    /**
+     * 생성 Step 청크 크기 정책 (초기값: Job 파라미터 batchSize, adaptiveChunk=false이면 고정)
+     * 파티션 Worker 스레드에서도 평가되도록 Job 범위 대신 Step 범위로 생성 (Step 실행마다 별도 인스턴스)
+     */
+    @Bean
+    @StepScope
+    public AdaptiveChunkSizePolicy generationCompletionPolicy(@Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        return adaptiveChunkSizePolicyFactory.create(generationParameters.resolve(jobParameters).batchSize(),
+            !"false".equalsIgnoreCase(String.valueOf(jobParameters.get("adaptiveChunk"))));
+    }
+
+    /**
+     * 회원 마일리지 생성 Reader
+     */
+    @Bean
+    @StepScope
+    public MileageMemberGenerationReader mileageMemberGenerationReader(
+            @Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        return new MileageMemberGenerationReader(generationParameters.resolve(jobParameters).members());
+    }
+
+    /**
+     * 일자별 마일리지 이력 생성 Reader (파티션 ExecutionContext의 일자 사용)
+     */
+    @Bean
+    @StepScope
+    public MileageHistoryGenerationReader mileageHistoryGenerationReader(
+            @Value("#{jobParameters}") Map<String, Object> jobParameters,
+            @Value("#{stepExecutionContext['date']}") String date,
+            @Value("#{stepExecutionContext['dayIndex']}") Integer dayIndex) {
+        MileageGenerationParameters.Volume volume = generationParameters.resolve(jobParameters);
+        return new MileageHistoryGenerationReader(LocalDate.parse(date), dayIndex, volume.seed(),
+            generationParameters.workloadGenerator(volume));
+    }
+
+    /**
+     * 회원 마일리지 JDBC 배치 Writer
+     */
+    @Bean
+    public JdbcBatchItemWriter<Mileage> mileageMemberGenerationWriter() {
+        return new JdbcBatchItemWriterBuilder<Mileage>()
+            .dataSource(dataSource)
+            .sql(INSERT_MILEAGE_SQL)
+            .beanMapped()
+            .build();
+    }
+
+    /**
+     * 마일리지 이력 JDBC 배치 Writer
+     */
+    @Bean
+    public JdbcBatchItemWriter<MileageHistory> mileageHistoryGenerationWriter() {
+        return new JdbcBatchItemWriterBuilder<MileageHistory>()
+            .dataSource(dataSource)
+            .sql(INSERT_HISTORY_SQL)
+            .beanMapped()
             .build();
     }
 
     /**
-     * 마일리지 데이터 생성 Step
+     * 잔액 조정 Step
      */
     @Bean
-    public Step mileageDataGenerationStep() {
-        return new StepBuilder("mileageDataGenerationStep", jobRepository)
-            .tasklet(dataGenerationTasklet, transactionManager)
+    public Step mileageBalanceAdjustmentStep() {
+        return new StepBuilder("mileageBalanceAdjustmentStep", jobRepository)
+            .tasklet(balanceAdjustmentTasklet, transactionManager)
+            .listener(batchStepExecutionListener)
             .build();
     }
 
@@ -55,6 +238,7 @@ public class MileageBatchJobConfig {
     @Bean
     public Job mileageAggregationJob() {
         return new JobBuilder("mileageAggregationJob", jobRepository)
+            .listener(batchJobExecutionListener)
             .start(mileageAggregationStep())
             .build();
     }
@@ -66,6 +250,7 @@ public class MileageBatchJobConfig {
     public Step mileageAggregationStep() {
         return new StepBuilder("mileageAggregationStep", jobRepository)
             .tasklet(aggregationTasklet, transactionManager)
+            .listener(batchStepExecutionListener)
             .build();
     }
 
@@ -76,7 +261,11 @@ public class MileageBatchJobConfig {
     @Bean
     public Job mileageFullProcessJob() {
         return new JobBuilder("mileageFullProcessJob", jobRepository)
-            .start(mileageDataGenerationStep())
+            .listener(batchJobExecutionListener)
+            .listener(generationStartDateListener)
+            .start(mileageMemberGenerationStep())
+            .next(mileageHistoryGenerationStep())
+            .next(mileageBalanceAdjustmentStep())
             .next(mileageAggregationStep())
             .build();
     }
@@ -0,0 +1,359 @@
+package com.example.demo.batch.config;
+
+import com.example.demo.batch.chunk.AdaptiveChunkSizePolicy;
+import com.example.demo.batch.chunk.AdaptiveChunkSizePolicyFactory;
+import com.example.demo.batch.chunk.BisectingItemWriter;
+import com.example.demo.batch.chunk.MileageSkipPolicy;
+import com.example.demo.batch.chunk.SkippedItemRecorder;
+import com.example.demo.batch.csv.ByteRangePartitioner;
+import com.example.demo.batch.csv.CsvRecord;
+import com.example.demo.batch.csv.MappedCsvRangeReader;
+import com.example.demo.batch.listener.BatchJobExecutionListener;
+import com.example.demo.batch.listener.BatchStepExecutionListener;
+import com.example.demo.batch.listener.ChunkMetricsListener;
+import com.example.demo.batch.listener.SkippedItemListener;
+import com.example.demo.batch.tasklet.MileageCsvExternalTableLocationTasklet;
+import com.example.demo.batch.tasklet.MileageCsvNativeLoadTasklet;
+import com.example.demo.domain.Mileage;
+import com.example.demo.domain.MileageHistory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 CSV 대량 적재 배치 Job 설정
+ * 외부에서 받은 회원/이력 CSV 파일을 MILEAGE, MILEAGE_HISTORY 테이블로 적재
+ *
+ * - mileageCsvLoadJob: 파일을 바이트 구간으로 나누어 batchTaskExecutor 스레드에서 병렬로 읽고(메모리 매핑)
+ *   JDBC 배치 insert로 적재합니다. 구간별 읽기 위치가 청크 커밋마다 저장되어 실패 시 재시작할 수 있습니다.
+ *   변환할 수 없는 행(읽기)과 제약 조건을 위반하는 행(쓰기, BisectingItemWriter로 골라냄)은 건너뛰고
+ *   MILEAGE_SKIPPED_ITEM에 기록하며, 일시적 DB 오류는 청크 단위로 재시도합니다.
+ * - mileageCsvNativeLoadJob: DB가 파일을 직접 읽는 방식 (H2 CSVREAD, Oracle 외부 테이블)
+ *
+ * CSV 형식 (UTF-8, 쉼표 구분, 큰따옴표 인용 가능):
+ * - 회원: member_id,balance
+ * - 이력: member_id,type,amount,description,create_date (create_date: yyyy-MM-dd HH:mm:ss)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MileageCsvLoadJobConfig {
+
+    private static final String INSERT_MILEAGE_SQL = """
+        INSERT INTO MILEAGE (member_id, balance, create_date, update_date)
+        VALUES (:memberId, :balance, :createDate, :updateDate)
+        """;
+
+    private static final String INSERT_HISTORY_SQL = """
+        INSERT INTO MILEAGE_HISTORY (MILEAGE_member_id, type, amount, description, create_date)
+        VALUES (:mileageMemberId, :type, :amount, :description, :createDate)
+        """;
+
+    private static final String TYPE_EARN = "EARN";
+    private static final String TYPE_USE = "USE";
+    private static final String TYPE_EXPIRE = "EXPIRE";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+    private final MileageCsvNativeLoadTasklet csvNativeLoadTasklet;
+    private final MileageCsvExternalTableLocationTasklet csvExternalTableLocationTasklet;
+    private final BatchJobExecutionListener batchJobExecutionListener;
+    private final BatchStepExecutionListener batchStepExecutionListener;
+    private final ChunkMetricsListener chunkMetricsListener;
+    private final MileageSkipPolicy mileageSkipPolicy;
+    private final SkippedItemRecorder skippedItemRecorder;
+    private final SkippedItemListener skippedItemListener;
+    private final AdaptiveChunkSizePolicyFactory adaptiveChunkSizePolicyFactory;
+
+    @Value("${mileage.csv-load.chunk-size:5000}")
+    private int defaultChunkSize;
+
+    @Value("${mileage.csv-load.retry-limit:3}")
+    private int retryLimit;
+
+    /**
+     * 마일리지 CSV 병렬 적재 Job
+     * 회원 파일을 먼저 적재한 후 이력 파일을 적재 (이력은 회원 FK를 참조)
+     * 파일 파라미터를 생략한 Step은 적재 없이 완료됩니다.
+     *
+     * 실행 예:
+     * POST /api/batch/execute
+     * { "jobId": "mileageCsvLoadJob",
+     *   "jobParameters": { "memberFile": "/data/mileage.csv", "historyFile": "/data/mileage_history.csv",
+     *                      "header": "true", "gridSize": "8", "chunkSize": "5000" } }
+     */
+    @Bean
+    public Job mileageCsvLoadJob() {
+        return new JobBuilder("mileageCsvLoadJob", jobRepository)
+            .listener(batchJobExecutionListener)
+            .start(mileageCsvMemberLoadStep())
+            .next(mileageCsvHistoryLoadStep())
+            .build();
+    }
+
+    /**
+     * 회원 CSV 적재 Step (Manager)
+     */
+    @Bean
+    public Step mileageCsvMemberLoadStep() {
+        return new StepBuilder("mileageCsvMemberLoadStep", jobRepository)
+            .partitioner("mileageCsvMemberRangeLoadStep", mileageCsvMemberPartitioner(null, null))
+            .step(mileageCsvMemberRangeLoadStep())
+            .gridSize(batchTaskExecutor.getMaxPoolSize())
+            .taskExecutor(batchTaskExecutor)
+            .listener(batchStepExecutionListener)
+            .build();
+    }
+
+    /**
+     * 회원 CSV 구간 적재 Step (Worker)
+     */
+    @Bean
+    public Step mileageCsvMemberRangeLoadStep() {
+        return new StepBuilder("mileageCsvMemberRangeLoadStep", jobRepository)
+            .<Mileage, Mileage>chunk(csvLoadCompletionPolicy(null, null), transactionManager)
+            .reader(mileageCsvMemberReader(null, null, null))
+            .writer(mileageCsvMemberBisectingWriter())
+            .faultTolerant()
+            .skipPolicy(mileageSkipPolicy)
+            .retry(TransientDataAccessException.class)
+            .retryLimit(retryLimit)
+            .listener(skippedItemListener)
+            .listener((ChunkListener) csvLoadCompletionPolicy(null, null))
+            .listener((ItemWriteListener<Object>) csvLoadCompletionPolicy(null, null))
+            .listener((StepExecutionListener) csvLoadCompletionPolicy(null, null))
+            .listener(chunkMetricsListener)
+            .build();
+    }
+
+    /**
+     * 이력 CSV 적재 Step (Manager)
+     */
+    @Bean
+    public Step mileageCsvHistoryLoadStep() {
+        return new StepBuilder("mileageCsvHistoryLoadStep", jobRepository)
+            .partitioner("mileageCsvHistoryRangeLoadStep", mileageCsvHistoryPartitioner(null, null))
+            .step(mileageCsvHistoryRangeLoadStep())
+            .gridSize(batchTaskExecutor.getMaxPoolSize())
+            .taskExecutor(batchTaskExecutor)
+            .listener(batchStepExecutionListener)
+            .build();
+    }
+
+    /**
+     * 이력 CSV 구간 적재 Step (Worker)
+     */
+    @Bean
+    public Step mileageCsvHistoryRangeLoadStep() {
+        return new StepBuilder("mileageCsvHistoryRangeLoadStep", jobRepository)
+            .<MileageHistory, MileageHistory>chunk(csvLoadCompletionPolicy(null, null), transactionManager)
+            .reader(mileageCsvHistoryReader(null, null, null))
+            .writer(mileageCsvHistoryBisectingWriter())
+            .faultTolerant()
+            .skipPolicy(mileageSkipPolicy)
+            .retry(TransientDataAccessException.class)
+            .retryLimit(retryLimit)
+            .listener(skippedItemListener)
+            .listener((ChunkListener) csvLoadCompletionPolicy(null, null))
+            .listener((ItemWriteListener<Object>) csvLoadCompletionPolicy(null, null))
+            .listener((StepExecutionListener) csvLoadCompletionPolicy(null, null))
+            .listener(chunkMetricsListener)
+            .build();
+    }
+
+    /**
+     * 회원 CSV 바이트 구간 Partitioner
+     */
+    @Bean
+    @StepScope
+    public ByteRangePartitioner mileageCsvMemberPartitioner(
+            @Value("#{jobParameters['memberFile']}") String memberFile,
+            @Value("#{jobParameters['header'] ?: 'true'}") String header) {
+        return new ByteRangePartitioner(memberFile != null ? Path.of(memberFile) : null, Boolean.parseBoolean(header));
+    }
+
+    /**
+     * 이력 CSV 바이트 구간 Partitioner
+     */
+    @Bean
+    @StepScope
+    public ByteRangePartitioner mileageCsvHistoryPartitioner(
+            @Value("#{jobParameters['historyFile']}") String historyFile,
+            @Value("#{jobParameters['header'] ?: 'true'}") String header) {
+        return new ByteRangePartitioner(historyFile != null ? Path.of(historyFile) : null, Boolean.parseBoolean(header));
+    }
+
+    /**
+     * CSV 적재 청크 크기 정책 (Job 파라미터 chunkSize를 지정하면 고정, 없으면 mileage.csv-load.chunk-size에서 시작하여 조정)
+     * 파티션 Worker 스레드에서도 평가되도록 Step 범위로 생성 (파티션마다 별도 인스턴스)
+     */
+    @Bean
+    @StepScope
+    public AdaptiveChunkSizePolicy csvLoadCompletionPolicy(
+            @Value("#{jobParameters['chunkSize']}") String chunkSize,
+            @Value("#{jobParameters['adaptiveChunk']}") String adaptiveChunk) {
+        return adaptiveChunkSizePolicyFactory.create(chunkSize, adaptiveChunk, defaultChunkSize);
+    }
+
+    /**
+     * 회원 CSV 구간 Reader (member_id,balance)
+     */
+    @Bean
+    @StepScope
+    public MappedCsvRangeReader<Mileage> mileageCsvMemberReader(
+            @Value("#{stepExecutionContext['file']}") String file,
+            @Value("#{stepExecutionContext['startOffset']}") Long startOffset,
+            @Value("#{stepExecutionContext['endOffset']}") Long endOffset) {
+        return new MappedCsvRangeReader<>("mileageCsvMemberReader", Path.of(file), startOffset, endOffset,
+            record -> {
+                LocalDateTime now = LocalDateTime.now();
+                return Mileage.builder()
+                    .memberId(record.getLong(0))
+                    .balance(record.getLong(1))
+                    .createDate(now)
+                    .updateDate(now)
+                    .build();
+            });
+    }
+
+    /**
+     * 이력 CSV 구간 Reader (member_id,type,amount,description,create_date)
+     */
+    @Bean
+    @StepScope
+    public MappedCsvRangeReader<MileageHistory> mileageCsvHistoryReader(
+            @Value("#{stepExecutionContext['file']}") String file,
+            @Value("#{stepExecutionContext['startOffset']}") Long startOffset,
+            @Value("#{stepExecutionContext['endOffset']}") Long endOffset) {
+        return new MappedCsvRangeReader<>("mileageCsvHistoryReader", Path.of(file), startOffset, endOffset,
+            record -> MileageHistory.builder()
+                .mileageMemberId(record.getLong(0))
+                .type(historyType(record))
+                .amount(record.getInt(2))
+                .description(record.isEmpty(3) ? null : record.getString(3))
+                .createDate(record.getDateTime(4))
+                .build());
+    }
+
+    /**
+     * 이력 유형 (알려진 유형은 상수 문자열을 재사용)
+     */
+    private static String historyType(CsvRecord record) {
+        if (record.equalsAscii(1, TYPE_EARN)) {
+            return TYPE_EARN;
+        }
+        if (record.equalsAscii(1, TYPE_USE)) {
+            return TYPE_USE;
+        }
+        if (record.equalsAscii(1, TYPE_EXPIRE)) {
+            return TYPE_EXPIRE;
+        }
+        return record.getString(1);
+    }
+
+    /**
+     * 회원 마일리지 Writer (배치 insert 실패 시 이분할하여 제약 조건 위반 행만 스킵)
+     */
+    @Bean
+    public BisectingItemWriter<Mileage> mileageCsvMemberBisectingWriter() {
+        return new BisectingItemWriter<>(mileageCsvMemberWriter(), transactionManager, skippedItemRecorder);
+    }
+
+    /**
+     * 마일리지 이력 Writer (배치 insert 실패 시 이분할하여 제약 조건 위반 행만 스킵)
+     */
+    @Bean
+    public BisectingItemWriter<MileageHistory> mileageCsvHistoryBisectingWriter() {
+        return new BisectingItemWriter<>(mileageCsvHistoryWriter(), transactionManager, skippedItemRecorder);
+    }
+
+    /**
+     * 회원 마일리지 JDBC 배치 Writer
+     */
+    @Bean
+    public JdbcBatchItemWriter<Mileage> mileageCsvMemberWriter() {
+        return new JdbcBatchItemWriterBuilder<Mileage>()
+            .dataSource(dataSource)
+            .sql(INSERT_MILEAGE_SQL)
+            .beanMapped()
+            .build();
+    }
+
+    /**
+     * 마일리지 이력 JDBC 배치 Writer
+     */
+    @Bean
+    public JdbcBatchItemWriter<MileageHistory> mileageCsvHistoryWriter() {
+        return new JdbcBatchItemWriterBuilder<MileageHistory>()
+            .dataSource(dataSource)
+            .sql(INSERT_HISTORY_SQL)
+            .beanMapped()
+            .build();
+    }
+
+    /**
+     * 마일리지 CSV DB 내장 적재 Job
+     * 파일 파싱과 insert를 DB에서 한 문장으로 처리 (H2 CSVREAD, Oracle 외부 테이블 + direct-path insert)
+     * Oracle 외부 테이블 LOCATION 변경(DDL, 암묵적 커밋)은 앞 Step에서 처리하고, 적재 Step은 한 트랜잭션으로 적재하므로
+     * 실패하면 적재분이 모두 롤백되어 재시작 시 처음부터 다시 적재합니다.
+     *
+     * 실행 예:
+     * POST /api/batch/execute
+     * { "jobId": "mileageCsvNativeLoadJob",
+     *   "jobParameters": { "memberFile": "mileage.csv", "historyFile": "mileage_history.csv" } }
+     */
+    @Bean
+    public Job mileageCsvNativeLoadJob() {
+        return new JobBuilder("mileageCsvNativeLoadJob", jobRepository)
+            .listener(batchJobExecutionListener)
+            .start(mileageCsvExternalTableLocationStep())
+            .next(mileageCsvNativeLoadStep())
+            .build();
+    }
+
+    /**
+     * Oracle 외부 테이블 LOCATION 변경 Step (Oracle이 아니면 아무것도 하지 않음)
+     * 재시작 시에도 다시 실행하여 적재 직전에 LOCATION을 이번 Job의 파일로 맞춤
+     */
+    @Bean
+    public Step mileageCsvExternalTableLocationStep() {
+        return new StepBuilder("mileageCsvExternalTableLocationStep", jobRepository)
+            .tasklet(csvExternalTableLocationTasklet, transactionManager)
+            .allowStartIfComplete(true)
+            .listener(batchStepExecutionListener)
+            .build();
+    }
+
+    /**
+     * 마일리지 CSV DB 내장 적재 Step
+     */
+    @Bean
+    public Step mileageCsvNativeLoadStep() {
+        return new StepBuilder("mileageCsvNativeLoadStep", jobRepository)
+            .tasklet(csvNativeLoadTasklet, transactionManager)
+            .listener(batchStepExecutionListener)
+            .build();
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.demo.batch.config;
+
+import com.example.demo.batch.chunk.AdaptiveChunkSizePolicy;
+import com.example.demo.batch.chunk.AdaptiveChunkSizePolicyFactory;
+import com.example.demo.batch.listener.BatchJobExecutionListener;
+import com.example.demo.batch.listener.BatchStepExecutionListener;
+import com.example.demo.batch.listener.ChunkMetricsListener;
+import com.example.demo.config.datasource.ReplicaLagMonitor;
+import com.example.demo.domain.MileageHistory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.support.SynchronizedItemStreamReader;
+import org.springframework.batch.item.support.builder.SynchronizedItemStreamReaderBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 이력 내보내기 Chunk Job 설정
+ * 기간 내 MILEAGE_HISTORY를 커서로 읽어 MILEAGE_HISTORY_EXPORT에 JDBC 배치 insert
+ *
+ * DB 기반 Chunk Job의 기본 템플릿입니다.
+ * - Reader: JdbcCursorItemReader (fetchSize 단위로 DB에서 가져오며 전체 결과를 메모리에 올리지 않음)
+ * - Writer: JdbcBatchItemWriter (청크 전체를 하나의 JDBC 배치 MERGE로 실행, 멱등)
+ * - 청크 크기(커밋 간격)와 fetch 크기는 Job 파라미터로 지정
+ *
+ * MyBatis 커서 Reader는 fetchSize가 매핑 구문 단위로 고정되므로,
+ * 실행마다 fetch 크기를 바꿀 수 있도록 JDBC 커서 Reader를 사용합니다.
+ * 복제본 라우팅이 활성화되어 있고 복제본이 정상이면 원본 대신 복제본에서 읽습니다.
+ *
+ * Job 파라미터:
+ * - startDate / endDate: 내보낼 기간 (yyyy-MM-dd, 종료일 포함, 기본값: 어제)
+ * - chunkSize: 청크(트랜잭션)당 처리 건수 (기본값: mileage.export.chunk-size)
+ *   mileageHistoryExportJob은 이 값에서 시작하여 관측한 처리량에 따라 batch.adaptive-chunk 범위에서 조정합니다.
+ * - adaptiveChunk: false이면 청크 크기를 chunkSize로 고정 (청크 크기별 처리량 비교 시)
+ * - fetchSize: 커서 fetch 크기 (기본값: mileage.export.fetch-size)
+ *
+ * mileageHistoryExportParallelJob은 같은 작업을 batchTaskExecutor의 여러 스레드로 병렬 실행하는 변형입니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MileageHistoryExportJobConfig {
+
+    private static final String READ_SQL = """
+        SELECT id,
+               MILEAGE_member_id,
+               type,
+               amount,
+               description,
+               create_date
+        FROM MILEAGE_HISTORY
+        WHERE create_date >= ?
+          AND create_date < ?
+        ORDER BY id
+        """;
+
+    // 같은 이력을 다시 써도 결과가 같도록 MERGE 사용 (재실행/멀티스레드 재시작 시 중복 방지)
+    // Oracle/H2 공통 문법: USING 절은 DUAL 서브쿼리, 테이블 별칭에 AS 없음, ON 조건은 괄호로 감쌈
+    private static final String WRITE_SQL = """
+        MERGE INTO MILEAGE_HISTORY_EXPORT target
+        USING (
+            SELECT :id AS history_id,
+                   :mileageMemberId AS MILEAGE_member_id,
+                   :type AS type,
+                   :amount AS amount,
+                   :description AS description,
+                   :createDate AS create_date
+            FROM DUAL
+        ) vals
+        ON (target.history_id = vals.history_id)
+        WHEN MATCHED THEN
+            UPDATE SET
+                target.MILEAGE_member_id = vals.MILEAGE_member_id,
+                target.type = vals.type,
+                target.amount = vals.amount,
+                target.description = vals.description,
+                target.create_date = vals.create_date,
+                target.export_date = CURRENT_TIMESTAMP
+        WHEN NOT MATCHED THEN
+            INSERT (history_id, MILEAGE_member_id, type, amount, description, create_date, export_date)
+            VALUES (vals.history_id, vals.MILEAGE_member_id, vals.type, vals.amount, vals.description, vals.create_date, CURRENT_TIMESTAMP)
+        """;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final BatchJobExecutionListener batchJobExecutionListener;
+    private final BatchStepExecutionListener batchStepExecutionListener;
+    private final ChunkMetricsListener chunkMetricsListener;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final AdaptiveChunkSizePolicyFactory adaptiveChunkSizePolicyFactory;
+
+    @Value("${mileage.export.chunk-size:1000}")
+    private int defaultChunkSize;
+
+    @Value("${mileage.export.fetch-size:1000}")
+    private int defaultFetchSize;
+
+    /**
+     * 마일리지 이력 내보내기 Job
+     *
+     * 실행 예:
+     * POST /api/batch/execute
+     * { "jobId": "mileageHistoryExportJob",
+     *   "jobParameters": { "startDate": "2024-01-01", "endDate": "2024-01-31", "chunkSize": "1000", "fetchSize": "1000" } }
+     */
+    @Bean
+    public Job mileageHistoryExportJob() {
+        return new JobBuilder("mileageHistoryExportJob", jobRepository)
+            .listener(batchJobExecutionListener)
+            .start(mileageHistoryExportStep())
+            .build();
+    }
+
+    /**
+     * 마일리지 이력 내보내기 Step
+     * 청크 크기는 Step 범위의 적응형 정책으로 Job 파라미터에서 초기값을 받음
+     */
+    @Bean
+    public Step mileageHistoryExportStep() {
+        return new StepBuilder("mileageHistoryExportStep", jobRepository)
+            .<MileageHistory, MileageHistory>chunk(exportCompletionPolicy(null, null), transactionManager)
+            .reader(mileageHistoryExportReader(null, null, null, null))
+            .writer(mileageHistoryExportWriter())
+            .listener(batchStepExecutionListener)
+            .listener((ChunkListener) exportCompletionPolicy(null, null))
+            .listener((ItemWriteListener<Object>) exportCompletionPolicy(null, null))
+            .listener((StepExecutionListener) exportCompletionPolicy(null, null))
+            .listener(chunkMetricsListener)
+            .build();
+    }
+
+    /**
+     * 내보내기 Step 청크 크기 정책 (Job 파라미터 chunkSize를 지정하면 고정, 없으면 기본 청크 크기에서 시작하여 조정)
+     */
+    @Bean
+    @StepScope
+    public AdaptiveChunkSizePolicy exportCompletionPolicy(
+            @Value("#{jobParameters['chunkSize']}") String chunkSize,
+            @Value("#{jobParameters['adaptiveChunk']}") String adaptiveChunk) {
+        AdaptiveChunkSizePolicy policy = adaptiveChunkSizePolicyFactory.create(chunkSize, adaptiveChunk, defaultChunkSize);
+        log.info("mileageHistoryExportStep 청크 크기 정책 생성 - 초기 청크 크기: {}, Job 파라미터 chunkSize: {}, adaptiveChunk: {}",
+            policy.getChunkSize(), chunkSize, adaptiveChunk);
+        return policy;
+    }
+
+    /**
+     * 기간 내 마일리지 이력 커서 Reader
+     * 읽은 위치가 ExecutionContext에 저장되어 실패 후 재시작하면 이어서 읽습니다.
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<MileageHistory> mileageHistoryExportReader(
+            @Value("#{jobParameters['startDate']}") String startDate,
+            @Value("#{jobParameters['endDate']}") String endDate,
+            @Value("#{jobParameters['fetchSize']}") String fetchSize,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        return exportReader("mileageHistoryExportReader", startDate, endDate, fetchSize, replicaDataSource, true);
+    }
+
+    /**
+     * 마일리지 이력 내보내기 멀티스레드 Job
+     *
+     * 실행 예:
+     * POST /api/batch/execute
+     * { "jobId": "mileageHistoryExportParallelJob",
+     *   "jobParameters": { "startDate": "2024-01-01", "endDate": "2024-01-31", "chunkSize": "1000" } }
+     */
+    @Bean
+    public Job mileageHistoryExportParallelJob() {
+        return new JobBuilder("mileageHistoryExportParallelJob", jobRepository)
+            .listener(batchJobExecutionListener)
+            .start(mileageHistoryExportParallelStep(null))
+            .build();
+    }
+
+    /**
+     * 마일리지 이력 내보내기 멀티스레드 Step
+     *
+     * JDBC 커서 Reader는 스레드 안전하지 않으므로 SynchronizedItemStreamReader로 감싸 read()를 직렬화하고,
+     * Writer(JdbcBatchItemWriter)는 상태가 없으므로 그대로 공유합니다.
+     *
+     * 재시작: 스레드별 청크가 커밋되는 순서가 읽은 순서와 다르므로 읽기 위치를 저장하지 않고(saveState=false)
+     * 재시작 시 기간 전체를 다시 읽습니다. Writer가 HISTORY_ID 기준 MERGE이므로
+     * 이미 커밋된 이력을 다시 써도 중복되지 않습니다.
+     */
+    @Bean
+    @JobScope
+    public Step mileageHistoryExportParallelStep(@Value("#{jobParameters['chunkSize']}") String chunkSize) {
+        int commitInterval = chunkSize != null ? Integer.parseInt(chunkSize) : defaultChunkSize;
+        log.info("mileageHistoryExportParallelStep 생성 - 청크 크기: {}, 스레드 수: {}",
+            commitInterval, batchTaskExecutor.getMaxPoolSize());
+
+        SynchronizedItemStreamReader<MileageHistory> reader = new SynchronizedItemStreamReaderBuilder<MileageHistory>()
+            .delegate(mileageHistoryExportParallelReader(null, null, null, null))
+            .build();
+
+        return new StepBuilder("mileageHistoryExportParallelStep", jobRepository)
+            .<MileageHistory, MileageHistory>chunk(commitInterval, transactionManager)
+            .reader(reader)
+            .writer(mileageHistoryExportWriter())
+            .taskExecutor(batchTaskExecutor)
+            .listener(batchStepExecutionListener)
+            .listener(chunkMetricsListener)
+            .build();
+    }
+
+    /**
+     * 멀티스레드 Step용 커서 Reader (읽기 위치를 저장하지 않음)
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<MileageHistory> mileageHistoryExportParallelReader(
+            @Value("#{jobParameters['startDate']}") String startDate,
+            @Value("#{jobParameters['endDate']}") String endDate,
+            @Value("#{jobParameters['fetchSize']}") String fetchSize,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        return exportReader("mileageHistoryExportParallelReader", startDate, endDate, fetchSize, replicaDataSource, false);
+    }
+
+    /**
+     * 마일리지 이력 내보내기 Writer (JDBC 배치 insert)
+     */
+    @Bean
+    public JdbcBatchItemWriter<MileageHistory> mileageHistoryExportWriter() {
+        return new JdbcBatchItemWriterBuilder<MileageHistory>()
+            .dataSource(dataSource)
+            .sql(WRITE_SQL)
+            .beanMapped()
+            .build();
+    }
+
+    /**
+     * 기간 내 마일리지 이력 커서 Reader 생성
+     * 복제본이 정상이면 복제본에서 읽고, 비활성화/장애/지연 시 원본에서 읽음
+     */
+    private JdbcCursorItemReader<MileageHistory> exportReader(String name, String startDate, String endDate,
+                                                             String fetchSize,
+                                                             ObjectProvider<DataSource> replicaDataSource,
+                                                             boolean saveState) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDateTime from = (startDate != null ? LocalDate.parse(startDate) : yesterday).atStartOfDay();
+        LocalDateTime to = (endDate != null ? LocalDate.parse(endDate) : yesterday).plusDays(1).atStartOfDay();
+        int cursorFetchSize = fetchSize != null ? Integer.parseInt(fetchSize) : defaultFetchSize;
+
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        DataSource readDataSource = monitor != null && monitor.isReplicaAvailable()
+            ? replicaDataSource.getIfAvailable(() -> dataSource)
+            : dataSource;
+
+        log.info("이력 내보내기 Reader 생성 - 기간: [{}, {}), fetch 크기: {}, 복제본 사용: {}",
+            from, to, cursorFetchSize, readDataSource != dataSource);
+
+        return new JdbcCursorItemReaderBuilder<MileageHistory>()
+            .name(name)
+            .dataSource(readDataSource)
+            .sql(READ_SQL)
+            .queryArguments(from, to)
+            .fetchSize(cursorFetchSize)
+            .rowMapper(new BeanPropertyRowMapper<>(MileageHistory.class))
+            .saveState(saveState)
+            .build();
+    }
+}
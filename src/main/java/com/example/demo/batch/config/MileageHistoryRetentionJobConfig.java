@@ -0,0 +1,87 @@
+package com.example.demo.batch.config;
+
+import com.example.demo.batch.listener.BatchJobExecutionListener;
+import com.example.demo.batch.listener.BatchStepExecutionListener;
+import com.example.demo.batch.tasklet.MileageHistoryArchiveTasklet;
+import com.example.demo.batch.tasklet.MileageHistoryPartitionDropTasklet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 마일리지 이력 보존 관리 배치 Job 설정
+ * 보존 기간이 지난 이력을 아카이브 테이블로 이관하거나 월 파티션 단위로 삭제
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MileageHistoryRetentionJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MileageHistoryArchiveTasklet archiveTasklet;
+    private final MileageHistoryPartitionDropTasklet partitionDropTasklet;
+    private final BatchJobExecutionListener batchJobExecutionListener;
+    private final BatchStepExecutionListener batchStepExecutionListener;
+
+    /**
+     * 마일리지 이력 아카이브 Job
+     *
+     * 실행 예:
+     * POST /api/batch/execute
+     * { "jobId": "mileageHistoryArchiveJob", "jobParameters": { "retentionDays": "365", "chunkSize": "5000" } }
+     */
+    @Bean
+    public Job mileageHistoryArchiveJob() {
+        return new JobBuilder("mileageHistoryArchiveJob", jobRepository)
+            .listener(batchJobExecutionListener)
+            .start(mileageHistoryArchiveStep())
+            .build();
+    }
+
+    /**
+     * 마일리지 이력 아카이브 Step
+     * Tasklet이 CONTINUABLE을 반환하는 동안 청크 단위로 반복 실행 (청크마다 커밋)
+     */
+    @Bean
+    public Step mileageHistoryArchiveStep() {
+        return new StepBuilder("mileageHistoryArchiveStep", jobRepository)
+            .tasklet(archiveTasklet, transactionManager)
+            .listener(batchStepExecutionListener)
+            .build();
+    }
+
+    /**
+     * 마일리지 이력 월 파티션 삭제 Job (Oracle 파티션 테이블 전용)
+     *
+     * 실행 예:
+     * POST /api/batch/execute
+     * { "jobId": "mileageHistoryPartitionDropJob", "jobParameters": { "retentionDays": "365", "archive": "true" } }
+     */
+    @Bean
+    public Job mileageHistoryPartitionDropJob() {
+        return new JobBuilder("mileageHistoryPartitionDropJob", jobRepository)
+            .listener(batchJobExecutionListener)
+            .start(mileageHistoryPartitionDropStep())
+            .build();
+    }
+
+    /**
+     * 마일리지 이력 월 파티션 삭제 Step
+     * 가장 오래된 월부터 한 달씩 반복 처리
+     */
+    @Bean
+    public Step mileageHistoryPartitionDropStep() {
+        return new StepBuilder("mileageHistoryPartitionDropStep", jobRepository)
+            .tasklet(partitionDropTasklet, transactionManager)
+            .listener(batchStepExecutionListener)
+            .build();
+    }
+}
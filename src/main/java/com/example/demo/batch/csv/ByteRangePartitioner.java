@@ -0,0 +1,104 @@
+package com.example.demo.batch.csv;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 바이트 구간 Partitioner
+ * 큰 CSV 파일을 gridSize개의 바이트 구간으로 나누어 구간마다 하나의 파티션(Worker Step 실행)으로 처리
+ *
+ * 구간 경계는 줄 시작 위치에 맞추므로 한 줄이 두 파티션에 나뉘지 않습니다.
+ * 헤더가 있으면 첫 줄은 어느 파티션에도 포함하지 않습니다.
+ *
+ * 각 파티션의 ExecutionContext에 다음 값을 저장합니다.
+ * - file: 파일 경로
+ * - startOffset: 구간 시작 위치 (포함)
+ * - endOffset: 구간 끝 위치 (미포함)
+ */
+@Slf4j
+public class ByteRangePartitioner implements Partitioner {
+
+    public static final String FILE_KEY = "file";
+    public static final String START_OFFSET_KEY = "startOffset";
+    public static final String END_OFFSET_KEY = "endOffset";
+
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    private final Path file;
+    private final boolean header;
+
+    /**
+     * @param file CSV 파일 경로 (null이면 파티션을 만들지 않음)
+     * @param header 첫 줄이 헤더인지 여부
+     */
+    public ByteRangePartitioner(Path file, boolean header) {
+        this.file = file;
+        this.header = header;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (file == null) {
+            log.info("CSV 파일이 지정되지 않아 파티션을 만들지 않습니다");
+            return partitions;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = header ? nextLineStart(channel, 0) : 0;
+            long rangeSize = Math.max(1, (size - start) / Math.max(1, gridSize));
+
+            int partitionIndex = 0;
+            while (start < size) {
+                long end = partitionIndex == gridSize - 1 ? size : nextLineStart(channel, start + rangeSize);
+                ExecutionContext context = new ExecutionContext();
+                context.putString(FILE_KEY, file.toString());
+                context.putLong(START_OFFSET_KEY, start);
+                context.putLong(END_OFFSET_KEY, end);
+                partitions.put("range-" + partitionIndex, context);
+                partitionIndex++;
+                start = end;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("CSV 파일 분할 실패: " + file, e);
+        }
+
+        log.info("CSV 바이트 구간 분할 - 파일: {}, 파티션 수: {}", file, partitions.size());
+        return partitions;
+    }
+
+    /**
+     * position 이후 첫 줄바꿈 다음 위치 (없으면 파일 끝)
+     */
+    private long nextLineStart(FileChannel channel, long position) throws IOException {
+        long size = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        // 구간이 줄 시작에서 끝나는 경우를 위해 position - 1부터 확인
+        long offset = Math.max(0, position - 1);
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.demo.batch.csv;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * CSV 한 줄의 필드 뷰 (재사용)
+ *
+ * 한 줄의 바이트를 내부 버퍼에 복사하고 필드 경계(시작/끝 위치)만 기록합니다.
+ * 숫자와 일시 필드는 바이트에서 바로 변환하므로 필드마다 String을 만들지 않으며,
+ * 문자열이 필요한 필드(getString)만 String을 생성합니다.
+ *
+ * 지원 형식: 쉼표 구분, 큰따옴표로 감싼 필드(내부 큰따옴표는 "" 로 이스케이프), 필드 안 줄바꿈은 지원하지 않음
+ * 스레드 안전하지 않으므로 Reader마다 하나씩 사용합니다.
+ */
+public class CsvRecord {
+
+    private static final byte SEPARATOR = ',';
+    private static final byte QUOTE = '"';
+
+    private byte[] line = new byte[256];
+    private int length;
+
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] escaped = new boolean[16];
+    private int fieldCount;
+
+    /**
+     * 버퍼의 [from, from + length) 구간을 한 줄로 읽어 필드를 분리
+     */
+    void load(ByteBuffer buffer, int from, int length) {
+        if (line.length < length) {
+            line = new byte[Math.max(length, line.length * 2)];
+        }
+        buffer.get(from, line, 0, length);
+        this.length = length;
+        split();
+    }
+
+    /**
+     * 필드 수
+     */
+    public int size() {
+        return fieldCount;
+    }
+
+    /**
+     * 빈 필드 여부
+     */
+    public boolean isEmpty(int index) {
+        return starts[index] == ends[index];
+    }
+
+    /**
+     * 필드를 long으로 변환 (String 생성 없이 바이트에서 바로 변환)
+     *
+     * 부호만 있는 필드는 IllegalArgumentException, long 범위를 넘는 값은 ArithmeticException을 던집니다.
+     */
+    public long getLong(int index) {
+        int position = starts[index];
+        int end = ends[index];
+        if (position == end) {
+            throw new IllegalArgumentException("빈 숫자 필드: " + index);
+        }
+        boolean negative = line[position] == '-';
+        if (negative || line[position] == '+') {
+            position++;
+            if (position == end) {
+                throw new IllegalArgumentException("부호만 있는 숫자 필드: " + getString(index));
+            }
+        }
+        // Long.MIN_VALUE까지 표현하도록 음수로 누적
+        long value = 0;
+        for (; position < end; position++) {
+            int digit = line[position] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("숫자가 아닌 필드: " + getString(index));
+            }
+            value = Math.subtractExact(Math.multiplyExact(value, 10), digit);
+        }
+        return negative ? value : Math.negateExact(value);
+    }
+
+    /**
+     * 필드를 int로 변환
+     */
+    public int getInt(int index) {
+        return Math.toIntExact(getLong(index));
+    }
+
+    /**
+     * 필드를 일시로 변환 (yyyy-MM-dd HH:mm:ss, yyyy-MM-ddTHH:mm:ss 또는 yyyy-MM-dd)
+     */
+    public LocalDateTime getDateTime(int index) {
+        int start = starts[index];
+        int fieldLength = ends[index] - start;
+        if (fieldLength != 10 && fieldLength < 19) {
+            throw new IllegalArgumentException("일시 형식이 아닌 필드: " + getString(index));
+        }
+        int year = digits(start, 4);
+        int month = digits(start + 5, 2);
+        int day = digits(start + 8, 2);
+        if (fieldLength == 10) {
+            return LocalDateTime.of(year, month, day, 0, 0);
+        }
+        return LocalDateTime.of(year, month, day, digits(start + 11, 2), digits(start + 14, 2), digits(start + 17, 2));
+    }
+
+    /**
+     * 필드가 주어진 ASCII 문자열과 같은지 비교 (String 생성 없음)
+     */
+    public boolean equalsAscii(int index, String value) {
+        int start = starts[index];
+        if (ends[index] - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (line[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 필드를 String으로 변환 (UTF-8)
+     */
+    public String getString(int index) {
+        String value = new String(line, starts[index], ends[index] - starts[index], StandardCharsets.UTF_8);
+        return escaped[index] ? value.replace("\"\"", "\"") : value;
+    }
+
+    private int digits(int position, int count) {
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("일시 형식이 아닌 값: " + new String(line, 0, length, StandardCharsets.UTF_8));
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private void split() {
+        fieldCount = 0;
+        int position = 0;
+        while (true) {
+            ensureFieldCapacity();
+            if (position < length && line[position] == QUOTE) {
+                // 큰따옴표로 감싼 필드
+                int start = ++position;
+                boolean hasEscape = false;
+                while (position < length) {
+                    if (line[position] == QUOTE) {
+                        if (position + 1 < length && line[position + 1] == QUOTE) {
+                            hasEscape = true;
+                            position += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    position++;
+                }
+                addField(start, position, hasEscape);
+                position++;  // 닫는 큰따옴표
+            } else {
+                int start = position;
+                while (position < length && line[position] != SEPARATOR) {
+                    position++;
+                }
+                addField(start, position, false);
+            }
+
+            if (position >= length) {
+                return;
+            }
+            position++;  // 구분자
+        }
+    }
+
+    private void addField(int start, int end, boolean hasEscape) {
+        starts[fieldCount] = start;
+        ends[fieldCount] = Math.min(end, length);
+        escaped[fieldCount] = hasEscape;
+        fieldCount++;
+    }
+
+    private void ensureFieldCapacity() {
+        if (fieldCount == starts.length) {
+            int capacity = starts.length * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            escaped = Arrays.copyOf(escaped, capacity);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.batch.csv;
+
+/**
+ * CSV 한 줄(CsvRecord)을 도메인 객체로 변환
+ *
+ * @param <T> 변환 결과 타입
+ */
+@FunctionalInterface
+public interface CsvRecordMapper<T> {
+
+    /**
+     * @param record CSV 한 줄의 필드 뷰 (다음 줄을 읽으면 내용이 바뀌므로 보관하지 말 것)
+     * @return 변환 결과
+     */
+    T map(CsvRecord record);
+}
@@ -0,0 +1,150 @@
+package com.example.demo.batch.csv;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ParseException;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑 CSV 구간 Reader
+ * 파일의 [startOffset, endOffset) 구간을 메모리 매핑(MappedByteBuffer)으로 읽어 한 줄씩 도메인 객체로 변환
+ *
+ * - 구간을 최대 WINDOW_SIZE 단위로 나누어 매핑하며, 줄이 매핑 경계에 걸치면 그 줄의 시작부터 다시 매핑합니다.
+ * - 줄의 바이트는 재사용하는 CsvRecord에 복사하여 필드를 나누므로 줄/필드마다 String을 만들지 않습니다.
+ * - 다음에 읽을 파일 위치를 청크 커밋마다 ExecutionContext에 저장하여 재시작 시 그 위치부터 읽습니다.
+ * - 빈 줄은 건너뜁니다.
+ * - 줄 변환에 실패하면 ParseException(파일 위치 포함)을 던지며, 다음 read는 그 다음 줄부터 읽습니다.
+ *
+ * @param <T> 변환 결과 타입
+ */
+@Slf4j
+public class MappedCsvRangeReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    private static final String POSITION_KEY = "position";
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final Path file;
+    private final long startOffset;
+    private final long endOffset;
+    private final CsvRecordMapper<T> mapper;
+    private final CsvRecord record = new CsvRecord();
+
+    private FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private long lineOffset;
+
+    public MappedCsvRangeReader(String name, Path file, long startOffset, long endOffset, CsvRecordMapper<T> mapper) {
+        setName(name);
+        this.file = file;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        String positionKey = getExecutionContextKey(POSITION_KEY);
+        position = executionContext.containsKey(positionKey) ? executionContext.getLong(positionKey) : startOffset;
+        if (position != startOffset) {
+            log.info("CSV 구간 읽기 재시작 - 파일: {}, 구간: [{}, {}), 재시작 위치: {}", file, startOffset, endOffset, position);
+        }
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new ItemStreamException("CSV 파일 열기 실패: " + file, e);
+        }
+    }
+
+    @Override
+    public T read() {
+        if (!nextLine()) {
+            return null;
+        }
+        try {
+            return mapper.map(record);
+        } catch (RuntimeException e) {
+            throw new ParseException("CSV 행 변환 실패 - 파일: " + file + " @" + lineOffset + ", 오류: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(getExecutionContextKey(POSITION_KEY), position);
+    }
+
+    @Override
+    public void close() {
+        window = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new ItemStreamException("CSV 파일 닫기 실패: " + file, e);
+            } finally {
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * 다음 줄을 CsvRecord로 읽음
+     *
+     * @return 구간 끝이면 false
+     */
+    private boolean nextLine() {
+        while (position < endOffset) {
+            if (window == null || position >= windowStart + window.limit()) {
+                map(position);
+            }
+
+            int from = (int) (position - windowStart);
+            int limit = window.limit();
+            int newline = from;
+            while (newline < limit && window.get(newline) != '\n') {
+                newline++;
+            }
+
+            if (newline == limit && windowStart + limit < endOffset) {
+                // 줄이 매핑 경계에 걸침: 줄 시작부터 다시 매핑
+                if (windowStart == position) {
+                    throw new ItemStreamException("CSV 한 줄이 매핑 크기보다 큽니다: " + file + " @" + position);
+                }
+                map(position);
+                continue;
+            }
+
+            int length = newline - from;
+            if (length > 0 && window.get(newline - 1) == '\r') {
+                length--;
+            }
+            position = windowStart + Math.min(newline + 1, limit);
+
+            if (length == 0) {
+                continue;
+            }
+            lineOffset = windowStart + from;
+            record.load(window, from, length);
+            return true;
+        }
+        return false;
+    }
+
+    private void map(long offset) {
+        try {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, endOffset - offset));
+            windowStart = offset;
+        } catch (IOException e) {
+            throw new ItemStreamException("CSV 파일 매핑 실패: " + file + " @" + offset, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.batch.generation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 일자 단위 Partitioner
+ * 생성 기간의 하루를 하나의 파티션(Worker Step 실행)으로 분할
+ *
+ * 각 파티션의 ExecutionContext에 다음 값을 저장합니다.
+ * - date: 생성 일자 (yyyy-MM-dd)
+ * - dayIndex: 생성 시작일로부터의 일수 (일자별 난수 seed 계산용)
+ */
+@Slf4j
+public class DailyPartitioner implements Partitioner {
+
+    public static final String DATE_KEY = "date";
+    public static final String DAY_INDEX_KEY = "dayIndex";
+
+    private final LocalDate startDate;
+    private final int days;
+
+    public DailyPartitioner(LocalDate startDate, int days) {
+        this.startDate = startDate;
+        this.days = days;
+    }
+
+    /**
+     * 일자별 파티션 생성 (gridSize와 무관하게 생성 기간의 일수만큼 생성)
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>(days * 2);
+        for (int dayIndex = 0; dayIndex < days; dayIndex++) {
+            LocalDate date = startDate.plusDays(dayIndex);
+            ExecutionContext context = new ExecutionContext();
+            context.putString(DATE_KEY, date.toString());
+            context.putInt(DAY_INDEX_KEY, dayIndex);
+            partitions.put("day-" + date, context);
+        }
+        log.info("일자별 파티션 생성 - 시작일: {}, 파티션 수: {}", startDate, days);
+        return partitions;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.demo.batch.generation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 마일리지 테스트 데이터 생성 규모 설정
+ *
+ * 생성 규모는 Job 파라미터로 지정하며, 지정하지 않은 값은 mileage.generation.* 기본값을 사용합니다.
+ * seed가 같으면 같은 데이터가 생성되므로 성능 측정을 같은 조건으로 반복할 수 있습니다.
+ *
+ * Job 파라미터:
+ * - members: 회원 수
+ * - days: 생성 기간 (오늘 포함 최근 N일)
+ * - transactionsPerDay: 일별 거래 건수
+ * - batchSize: JDBC 배치 insert 크기
+ * - seed: 난수 seed
+ * - zipfExponent: 회원 인기도 Zipf 지수 (0이면 균등 분포)
+ * - earnRatio: 적립(EARN) 비율 (나머지는 사용)
+ * - startDate: 생성 시작일 (yyyy-MM-dd, 기본값: 오늘 - (days - 1), Job 시작 시 한 번 고정 - MileageGenerationStartDateListener)
+ *
+ * 시간대별(24개)/요일별(월~일 7개) 거래 가중치는 설정(mileage.generation.hourly-weights, weekday-weights)으로 지정합니다.
+ */
+@Component
+public class MileageGenerationParameters {
+
+    public static final String START_DATE = "startDate";
+
+    @Value("${mileage.generation.members:1000}")
+    private int defaultMembers;
+
+    @Value("${mileage.generation.days:30}")
+    private int defaultDays;
+
+    @Value("${mileage.generation.transactions-per-day:10000}")
+    private int defaultTransactionsPerDay;
+
+    @Value("${mileage.generation.batch-size:1000}")
+    private int defaultBatchSize;
+
+    @Value("${mileage.generation.seed:42}")
+    private long defaultSeed;
+
+    @Value("${mileage.generation.zipf-exponent:1.0}")
+    private double defaultZipfExponent;
+
+    @Value("${mileage.generation.earn-ratio:0.7}")
+    private double defaultEarnRatio;
+
+    @Value("${mileage.generation.hourly-weights:2,1,1,1,1,2,4,6,8,9,10,11,14,11,10,9,9,10,12,14,13,10,7,4}")
+    private double[] hourlyWeights;
+
+    @Value("${mileage.generation.weekday-weights:1.0,0.95,0.95,1.0,1.15,1.35,1.25}")
+    private double[] weekdayWeights;
+
+    /**
+     * Job 파라미터와 기본값으로 생성 규모를 결정
+     *
+     * @param jobParameters Job 파라미터
+     * @return 생성 규모
+     */
+    public Volume resolve(Map<String, Object> jobParameters) {
+        int days = intParameter(jobParameters, "days", defaultDays);
+        return new Volume(
+            intParameter(jobParameters, "members", defaultMembers),
+            days,
+            intParameter(jobParameters, "transactionsPerDay", defaultTransactionsPerDay),
+            intParameter(jobParameters, "batchSize", defaultBatchSize),
+            jobParameters.get("seed") != null ? Long.parseLong(jobParameters.get("seed").toString()) : defaultSeed,
+            doubleParameter(jobParameters, "zipfExponent", defaultZipfExponent),
+            doubleParameter(jobParameters, "earnRatio", defaultEarnRatio),
+            jobParameters.get(START_DATE) != null
+                ? LocalDate.parse(jobParameters.get(START_DATE).toString())
+                : LocalDate.now().minusDays(days - 1L)
+        );
+    }
+
+    /**
+     * 생성 규모에 맞는 거래 생성기
+     *
+     * @param volume 생성 규모
+     * @return 거래 생성기
+     */
+    public MileageWorkloadGenerator workloadGenerator(Volume volume) {
+        return new MileageWorkloadGenerator(volume, hourlyWeights, weekdayWeights);
+    }
+
+    private int intParameter(Map<String, Object> jobParameters, String name, int defaultValue) {
+        Object value = jobParameters.get(name);
+        return value != null ? Integer.parseInt(value.toString()) : defaultValue;
+    }
+
+    private double doubleParameter(Map<String, Object> jobParameters, String name, double defaultValue) {
+        Object value = jobParameters.get(name);
+        return value != null ? Double.parseDouble(value.toString()) : defaultValue;
+    }
+
+    /**
+     * 생성 규모
+     *
+     * @param members 회원 수 (회원 ID 1 ~ members)
+     * @param days 생성 기간 (일)
+     * @param transactionsPerDay 일별 거래 건수 (요일 평균)
+     * @param batchSize JDBC 배치 insert 크기
+     * @param seed 난수 seed
+     * @param zipfExponent 회원 인기도 Zipf 지수 (0이면 균등)
+     * @param earnRatio 적립 비율
+     * @param startDate 생성 시작일 (Job 파라미터 startDate, 없으면 오늘 - (days - 1))
+     */
+    public record Volume(int members, int days, int transactionsPerDay, int batchSize, long seed,
+                         double zipfExponent, double earnRatio, LocalDate startDate) {
+
+        /**
+         * 생성할 전체 이력 건수의 근사값 (요일 가중치 평균 기준, 잔액 조정 이력 제외)
+         */
+        public long totalTransactions() {
+            return (long) days * transactionsPerDay;
+        }
+    }
+}
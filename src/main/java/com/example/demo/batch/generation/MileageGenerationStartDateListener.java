@@ -0,0 +1,43 @@
+package com.example.demo.batch.generation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 생성 시작일 고정 리스너
+ *
+ * 생성 시작일(오늘 - (days - 1))을 Job 시작 시 한 번만 계산하여 Job ExecutionContext(startDate)에 저장합니다.
+ * Step마다 다시 계산하면 자정을 넘겨 실행될 때 시작일이 하루 밀리므로, 생성 Step은 이 값을 사용합니다.
+ * 재시작 시에는 이전 실행의 Job ExecutionContext가 복원되므로 처음 실행한 날의 시작일을 그대로 사용합니다.
+ * Job 파라미터 startDate(yyyy-MM-dd)를 지정하면 그 값을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MileageGenerationStartDateListener implements JobExecutionListener {
+
+    private final MileageGenerationParameters generationParameters;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        ExecutionContext executionContext = jobExecution.getExecutionContext();
+        if (executionContext.containsKey(MileageGenerationParameters.START_DATE)) {
+            log.info("생성 시작일 (이전 실행): {}", executionContext.getString(MileageGenerationParameters.START_DATE));
+            return;
+        }
+
+        Map<String, Object> jobParameters = new HashMap<>();
+        jobExecution.getJobParameters().getParameters()
+            .forEach((name, parameter) -> jobParameters.put(name, parameter.getValue()));
+        String startDate = generationParameters.resolve(jobParameters).startDate().toString();
+        executionContext.putString(MileageGenerationParameters.START_DATE, startDate);
+        log.info("생성 시작일: {}", startDate);
+    }
+}
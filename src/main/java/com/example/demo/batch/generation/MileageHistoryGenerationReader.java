@@ -0,0 +1,78 @@
+package com.example.demo.batch.generation;
+
+import com.example.demo.domain.MileageHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 마일리지 이력 생성 Reader
+ * DB에서 읽는 대신 하루치 거래 이력을 순번(index)별로 MileageWorkloadGenerator로 생성하여 반환
+ *
+ * 재시작 지원:
+ * - 생성한 건수(read.count)는 청크가 커밋될 때마다 ExecutionContext에 저장됩니다.
+ * - 생성기가 이력마다 seed, 일자 순번, 이력 순번으로 난수를 초기화하므로
+ *   재시작 시 앞의 이력을 다시 생성하지 않고 저장된 순번부터 바로(O(1)) 이어서 생성합니다.
+ * - 최초 실행의 seed도 ExecutionContext에 저장하여 재시작 시 같은 seed인지 검증합니다.
+ */
+@Slf4j
+public class MileageHistoryGenerationReader extends AbstractItemCountingItemStreamItemReader<MileageHistory> {
+
+    private static final String SEED_KEY = "seed";
+
+    private final LocalDate date;
+    private final int dayIndex;
+    private final long seed;
+    private final MileageWorkloadGenerator generator;
+
+    public MileageHistoryGenerationReader(LocalDate date, int dayIndex, long seed, MileageWorkloadGenerator generator) {
+        this.date = date;
+        this.dayIndex = dayIndex;
+        this.seed = seed;
+        this.generator = generator;
+        setName("mileageHistoryGenerationReader");
+        setMaxItemCount(generator.transactionsFor(date));
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        String seedKey = getExecutionContextKey(SEED_KEY);
+        if (executionContext.containsKey(seedKey) && executionContext.getLong(seedKey) != seed) {
+            throw new IllegalStateException(String.format(
+                "재시작 seed 불일치 - 일자: %s, 저장된 seed: %d, 현재 seed: %d", date, executionContext.getLong(seedKey), seed));
+        }
+        super.open(executionContext);
+        if (getCurrentItemCount() > 0) {
+            log.info("일자별 이력 생성 재시작 - 일자: {}, 생성 완료: {}건부터 이어서 생성", date, getCurrentItemCount());
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        executionContext.putLong(getExecutionContextKey(SEED_KEY), seed);
+    }
+
+    @Override
+    protected void doOpen() {
+    }
+
+    @Override
+    protected MileageHistory doRead() {
+        // read()에서 currentItemCount가 먼저 증가하므로 이번 이력의 순번은 currentItemCount - 1
+        return generator.generate(date, dayIndex, getCurrentItemCount() - 1L);
+    }
+
+    /**
+     * 재시작 위치로 바로 이동 (이력마다 독립된 난수를 사용하므로 앞의 이력을 다시 생성할 필요 없음)
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+    }
+
+    @Override
+    protected void doClose() {
+    }
+}
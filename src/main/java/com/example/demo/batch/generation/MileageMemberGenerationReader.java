@@ -0,0 +1,53 @@
+package com.example.demo.batch.generation;
+
+import com.example.demo.domain.Mileage;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 테스트 회원 생성 Reader
+ * 회원 ID 1 ~ members의 MILEAGE를 목표 잔액과 함께 생성하여 반환
+ *
+ * 목표 잔액은 0 ~ MAX_BALANCE 사이에 고르게 분포하며,
+ * 이력 생성 후 잔액 조정 Step(MileageBalanceAdjustmentTasklet)이 이력 합계를 이 잔액에 맞춥니다.
+ * 생성한 회원 수(read.count)가 청크마다 ExecutionContext에 저장되어 재시작 시 다음 회원 ID부터 이어서 생성합니다.
+ */
+public class MileageMemberGenerationReader extends AbstractItemCountingItemStreamItemReader<Mileage> {
+
+    // 최대 마일리지 잔액
+    private static final long MAX_BALANCE = 100_000;
+
+    private final int members;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    public MileageMemberGenerationReader(int members) {
+        this.members = members;
+        setName("mileageMemberGenerationReader");
+        setMaxItemCount(members);
+    }
+
+    @Override
+    protected void doOpen() {
+    }
+
+    @Override
+    protected Mileage doRead() {
+        // read()에서 currentItemCount가 먼저 증가하므로 회원 ID = currentItemCount
+        long memberId = getCurrentItemCount();
+        // 0 ~ MAX_BALANCE 사이의 값을 골고루 분포시키기 위해 memberId를 이용
+        long balance = (memberId * MAX_BALANCE / members) % (MAX_BALANCE + 1);
+        return new Mileage(memberId, balance, now, now);
+    }
+
+    /**
+     * 재시작 위치로 바로 이동 (회원 ID가 순번으로 결정되므로 앞의 회원을 다시 생성할 필요 없음)
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+    }
+
+    @Override
+    protected void doClose() {
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.demo.batch.generation;
+
+import com.example.demo.domain.MileageHistory;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.SplittableRandom;
+
+/**
+ * 운영 환경과 비슷한 편중(skew)을 가진 마일리지 거래 생성기
+ *
+ * - 회원 인기도: Zipf 분포 (순위 k인 회원의 거래 확률 ∝ 1 / k^s, s = zipfExponent, 0이면 균등)
+ *   순위는 회원 ID에 흩어서 배치하므로 인기 회원이 특정 ID 구간에 몰리지 않습니다.
+ * - 시간대 분포: 시간대별 가중치(24개)에 따라 거래 시각 결정 (hot hour 재현)
+ * - 요일 분포: 요일별 가중치(월~일 7개)에 따라 일별 거래 건수 결정
+ * - 적립/사용 비율: earnRatio
+ *
+ * 모든 값은 seed, 일자 순번, 이력 순번만으로 결정되므로 같은 설정이면 항상 같은 데이터가 생성되고,
+ * 임의의 순번부터 바로 생성할 수 있습니다(재시작 지원).
+ * Zipf 표본은 rejection-inversion 방식(Hörmann & Derflinger)으로 회원 수와 무관하게 O(1)에 추출합니다.
+ */
+public class MileageWorkloadGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int members;
+    private final long seed;
+    private final double earnRatio;
+    private final ZipfSampler zipfSampler;
+    private final double[] hourlyCumulative;
+    private final double[] weekdayWeights;
+    private final double weekdayMean;
+    private final int transactionsPerDay;
+
+    // 순위 -> 회원 ID 변환 (members와 서로소인 곱셈 상수로 만든 일대일 대응)
+    private final long rankMultiplier;
+    private final long rankOffset;
+
+    public MileageWorkloadGenerator(MileageGenerationParameters.Volume volume,
+                                    double[] hourlyWeights, double[] weekdayWeights) {
+        if (hourlyWeights.length != 24) {
+            throw new IllegalArgumentException("시간대별 가중치는 24개여야 합니다: " + hourlyWeights.length);
+        }
+        if (weekdayWeights.length != 7) {
+            throw new IllegalArgumentException("요일별 가중치는 7개(월~일)여야 합니다: " + weekdayWeights.length);
+        }
+        this.members = volume.members();
+        this.seed = volume.seed();
+        this.earnRatio = volume.earnRatio();
+        this.transactionsPerDay = volume.transactionsPerDay();
+        this.zipfSampler = volume.zipfExponent() > 0 ? new ZipfSampler(members, volume.zipfExponent()) : null;
+        this.hourlyCumulative = cumulative(hourlyWeights);
+        this.weekdayWeights = weekdayWeights.clone();
+        double sum = 0;
+        for (double weight : weekdayWeights) {
+            sum += weight;
+        }
+        this.weekdayMean = sum / 7;
+
+        long multiplier = Math.floorMod(GOLDEN_GAMMA, (long) members);
+        if (multiplier == 0) {
+            multiplier = 1;
+        }
+        while (gcd(multiplier, members) != 1) {
+            multiplier++;
+        }
+        this.rankMultiplier = multiplier;
+        this.rankOffset = Math.floorMod(seed, (long) members);
+    }
+
+    /**
+     * 일자별 거래 건수 (요일 가중치 반영, 요일 평균이 transactionsPerDay)
+     *
+     * @param date 생성 일자
+     * @return 거래 건수
+     */
+    public int transactionsFor(LocalDate date) {
+        double weight = weekdayWeights[date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue()];
+        return (int) Math.round(transactionsPerDay * weight / weekdayMean);
+    }
+
+    /**
+     * 일자의 index번째 거래 생성
+     *
+     * @param date 생성 일자
+     * @param dayIndex 생성 시작일로부터의 일수
+     * @param index 일자 내 거래 순번 (0부터)
+     * @return 마일리지 이력
+     */
+    public MileageHistory generate(LocalDate date, int dayIndex, long index) {
+        SplittableRandom random = new SplittableRandom((seed * GOLDEN_GAMMA + dayIndex) * GOLDEN_GAMMA + index);
+
+        long memberId = zipfSampler != null
+            ? memberIdOfRank(zipfSampler.sample(random))
+            : random.nextLong(1, members + 1L);
+        boolean earn = random.nextDouble() < earnRatio;
+        int amount = earn ? random.nextInt(100, 10_001) : -random.nextInt(100, 5_001);
+        int hour = sampleHour(random.nextDouble());
+        LocalTime time = LocalTime.of(hour, random.nextInt(60), random.nextInt(60));
+
+        return new MileageHistory(
+            null,
+            memberId,
+            earn ? "EARN" : "USE",
+            amount,
+            earn ? "마일리지 적립" : "마일리지 사용",
+            date.atTime(time)
+        );
+    }
+
+    /**
+     * 인기 순위(1부터)를 회원 ID(1 ~ members)로 변환
+     */
+    long memberIdOfRank(long rank) {
+        return Math.floorMod((rank - 1) * rankMultiplier + rankOffset, (long) members) + 1;
+    }
+
+    private int sampleHour(double u) {
+        for (int hour = 0; hour < 23; hour++) {
+            if (u < hourlyCumulative[hour]) {
+                return hour;
+            }
+        }
+        return 23;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double[] cumulative = new double[weights.length];
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            cumulative[i] = running / total;
+        }
+        return cumulative;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * Zipf 분포 표본 추출기 (rejection-inversion)
+     * W. Hörmann, G. Derflinger, "Rejection-inversion to generate variates from monotone discrete distributions"
+     */
+    static final class ZipfSampler {
+
+        private final long numberOfElements;
+        private final double exponent;
+        private final double hIntegralX1;
+        private final double hIntegralNumberOfElements;
+        private final double s;
+
+        ZipfSampler(long numberOfElements, double exponent) {
+            this.numberOfElements = numberOfElements;
+            this.exponent = exponent;
+            this.hIntegralX1 = hIntegral(1.5) - 1d;
+            this.hIntegralNumberOfElements = hIntegral(numberOfElements + 0.5);
+            this.s = 2d - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+
+        /**
+         * 순위(1 ~ numberOfElements) 추출
+         */
+        long sample(SplittableRandom random) {
+            while (true) {
+                double u = hIntegralNumberOfElements + random.nextDouble() * (hIntegralX1 - hIntegralNumberOfElements);
+                double x = hIntegralInverse(u);
+                long k = (long) (x + 0.5);
+                if (k < 1) {
+                    k = 1;
+                } else if (k > numberOfElements) {
+                    k = numberOfElements;
+                }
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                    return k;
+                }
+            }
+        }
+
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return helper2((1d - exponent) * logX) * logX;
+        }
+
+        private double h(double x) {
+            return Math.exp(-exponent * Math.log(x));
+        }
+
+        private double hIntegralInverse(double x) {
+            double t = x * (1d - exponent);
+            if (t < -1d) {
+                t = -1d;
+            }
+            return Math.exp(helper1(t) * x);
+        }
+
+        // log(1 + x) / x
+        private static double helper1(double x) {
+            if (Math.abs(x) > 1e-8) {
+                return Math.log1p(x) / x;
+            }
+            return 1 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+        }
+
+        // (exp(x) - 1) / x
+        private static double helper2(double x) {
+            if (Math.abs(x) > 1e-8) {
+                return Math.expm1(x) / x;
+            }
+            return 1 + x * 0.5 * (1 + x * (1.0 / 3.0) * (1 + 0.25 * x));
+        }
+    }
+}
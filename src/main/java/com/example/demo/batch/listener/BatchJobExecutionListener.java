@@ -1,5 +1,7 @@
 package com.example.demo.batch.listener;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
@@ -10,11 +12,16 @@ import java.time.LocalDateTime;
 
 /**
  * 배치 Job 실행의 시작과 종료를 로깅하는 공통 리스너
+ *
+ * 종료 시 실행 시간을 Micrometer Timer(batch.job.duration)로 기록합니다.
+ * 태그: job(Job 이름), status(BatchStatus), exit_code(종료 코드)
  */
 @Slf4j
 @Component
 public class BatchJobExecutionListener implements JobExecutionListener {
 
+    private static final String METRIC_NAME = "batch.job.duration";
+
     @Override
     public void beforeJob(JobExecution jobExecution) {
         log.info("========================================");
@@ -44,6 +51,14 @@ public class BatchJobExecutionListener implements JobExecutionListener {
         log.info("종료 시간: {}", endTime);
         log.info("실행 시간: {}초 ({}ms)", duration.getSeconds(), duration.toMillis());
 
+        Timer.builder(METRIC_NAME)
+            .description("배치 Job 실행 시간")
+            .tag("job", jobExecution.getJobInstance().getJobName())
+            .tag("status", jobExecution.getStatus().name())
+            .tag("exit_code", jobExecution.getExitStatus().getExitCode())
+            .register(Metrics.globalRegistry)
+            .record(duration);
+
         // 실패한 경우 에러 정보 로깅
         if (!jobExecution.getAllFailureExceptions().isEmpty()) {
             log.error("========================================");
@@ -1,5 +1,10 @@
 package com.example.demo.batch.listener;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
@@ -8,14 +13,26 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 배치 Step 실행의 시작과 종료를 로깅하는 공통 리스너
+ *
+ * 종료 시 Step 실행 결과를 Micrometer 지표로 기록합니다. (태그 step, 파티션 Worker는 ':' 앞의 Step 이름으로 합산)
+ * - batch.step.duration: Step 실행 시간 (Timer, 태그 status)
+ * - batch.step.items: 처리 항목 수 (Counter, 태그 type: read / processed / filtered / written / skipped)
+ *   processed는 Processor를 통과한 항목 수(written + filtered)이며, 스킵된 항목은 skipped로 따로 셉니다.
+ * - batch.step.commits, batch.step.rollbacks: 커밋/롤백 횟수 (Counter)
+ * - batch.step.throughput: 마지막으로 종료된 Step 실행의 초당 쓰기 건수 (Gauge)
  */
 @Slf4j
 @Component
 public class BatchStepExecutionListener implements StepExecutionListener {
 
+    private static final Map<String, AtomicLong> THROUGHPUT_GAUGES = new ConcurrentHashMap<>();
+
     @Override
     public void beforeStep(StepExecution stepExecution) {
         log.info("----------------------------------------");
@@ -47,6 +64,12 @@ public class BatchStepExecutionListener implements StepExecutionListener {
                 stepExecution.getProcessSkipCount(),
                 stepExecution.getWriteSkipCount());
         log.info("Step 실행 시간: {}초 ({}ms)", duration.getSeconds(), duration.toMillis());
+        long throughput = duration.toMillis() > 0 ? stepExecution.getWriteCount() * 1000 / duration.toMillis() : 0;
+        if (throughput > 0) {
+            log.info("처리량: {}건/초", throughput);
+        }
+
+        recordMetrics(stepExecution, duration, throughput);
 
         // 실패한 경우 에러 정보 로깅
         if (!stepExecution.getFailureExceptions().isEmpty()) {
@@ -62,4 +85,67 @@ public class BatchStepExecutionListener implements StepExecutionListener {
 
         return stepExecution.getExitStatus();
     }
+
+    /**
+     * Step 실행 결과를 Micrometer 지표로 기록
+     */
+    private void recordMetrics(StepExecution stepExecution, Duration duration, long throughput) {
+        String step = metricStepName(stepExecution.getStepName());
+        Tags tags = Tags.of("job", stepExecution.getJobExecution().getJobInstance().getJobName(), "step", step);
+        long skipCount = stepExecution.getReadSkipCount() + stepExecution.getProcessSkipCount()
+            + stepExecution.getWriteSkipCount();
+
+        Timer.builder("batch.step.duration")
+            .description("배치 Step 실행 시간")
+            .tags(tags)
+            .tag("status", stepExecution.getStatus().name())
+            .register(Metrics.globalRegistry)
+            .record(duration);
+
+        incrementItems(tags, "read", stepExecution.getReadCount());
+        incrementItems(tags, "processed", stepExecution.getWriteCount() + stepExecution.getFilterCount());
+        incrementItems(tags, "filtered", stepExecution.getFilterCount());
+        incrementItems(tags, "written", stepExecution.getWriteCount());
+        incrementItems(tags, "skipped", skipCount);
+        Counter.builder("batch.step.commits")
+            .description("배치 Step 커밋 횟수")
+            .tags(tags)
+            .register(Metrics.globalRegistry)
+            .increment(stepExecution.getCommitCount());
+        Counter.builder("batch.step.rollbacks")
+            .description("배치 Step 롤백 횟수")
+            .tags(tags)
+            .register(Metrics.globalRegistry)
+            .increment(stepExecution.getRollbackCount());
+
+        // 파티션 Worker는 Manager Step 처리량에 포함되므로 Step 단위(Manager, 단일 Step)만 갱신
+        if (step.equals(stepExecution.getStepName())) {
+            THROUGHPUT_GAUGES.computeIfAbsent(step, name -> {
+                AtomicLong value = new AtomicLong();
+                Gauge.builder("batch.step.throughput", value, AtomicLong::get)
+                    .description("마지막으로 종료된 배치 Step 실행의 초당 쓰기 건수")
+                    .tags(tags)
+                    .baseUnit("items.per.second")
+                    .register(Metrics.globalRegistry);
+                return value;
+            }).set(throughput);
+        }
+    }
+
+    private void incrementItems(Tags tags, String type, long count) {
+        Counter.builder("batch.step.items")
+            .description("배치 Step 처리 항목 수")
+            .tags(tags)
+            .tag("type", type)
+            .register(Metrics.globalRegistry)
+            .increment(count);
+    }
+
+    /**
+     * 지표 태그용 Step 이름 (파티션 Worker "step:partition0"은 "step"으로 합산하여 태그 수를 제한)
+     */
+    static String metricStepName(String stepName) {
+        int separator = stepName.indexOf(':');
+        return separator > 0 ? stepName.substring(0, separator) : stepName;
+    }
 }
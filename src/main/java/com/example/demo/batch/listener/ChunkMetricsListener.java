@@ -0,0 +1,55 @@
+package com.example.demo.batch.listener;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청크 처리 시간 리스너
+ * 청크 하나(읽기 → 처리 → 쓰기 → 커밋)의 처리 시간을 Micrometer Timer(batch.chunk.duration)로 기록
+ *
+ * 태그: step(파티션 Worker는 ':' 앞의 Step 이름), result(committed / failed)
+ * 히스토그램 버킷을 함께 발행하므로 Prometheus에서 histogram_quantile로 p95/p99 청크 지연을 계산할 수 있습니다.
+ * 청크 시작 시각은 스레드별로 보관하므로 멀티스레드 Step과 파티션 Worker에서 함께 사용할 수 있습니다.
+ */
+@Component
+public class ChunkMetricsListener implements ChunkListener {
+
+    private static final String METRIC_NAME = "batch.chunk.duration";
+
+    private final ThreadLocal<Long> chunkStart = new ThreadLocal<>();
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        record(context, "committed");
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        record(context, "failed");
+    }
+
+    private void record(ChunkContext context, String result) {
+        Long start = chunkStart.get();
+        chunkStart.remove();
+        if (start == null) {
+            return;
+        }
+        Timer.builder(METRIC_NAME)
+            .description("배치 청크 처리 시간")
+            .tag("step", BatchStepExecutionListener.metricStepName(context.getStepContext().getStepName()))
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(Metrics.globalRegistry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.batch.listener;
+
+import com.example.demo.batch.chunk.SkippedItemRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스킵 항목 기록 리스너
+ * Fault-tolerant Chunk Step에서 SkipPolicy로 건너뛴 항목을 MILEAGE_SKIPPED_ITEM에 저장
+ *
+ * BisectingItemWriter가 직접 골라낸 쓰기 실패 행은 Writer가 기록하므로 여기서는 다시 기록하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SkippedItemListener implements SkipListener<Object, Object> {
+
+    private final SkippedItemRecorder skippedItemRecorder;
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        skippedItemRecorder.record(SkippedItemRecorder.PHASE_READ, null, t);
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        skippedItemRecorder.record(SkippedItemRecorder.PHASE_PROCESS, item, t);
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        skippedItemRecorder.record(SkippedItemRecorder.PHASE_WRITE, item, t);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.batch.tasklet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 메타데이터 정리 Tasklet
+ * 보존 기간이 지난 Job 실행 이력(BATCH_* 테이블)을 청크 단위로 삭제
+ *
+ * 한 번의 execute 호출에서 종료된 Job 실행 chunkSize건을 골라 FK 순서대로 삭제하고 CONTINUABLE을 반환하므로,
+ * 청크마다 별도 트랜잭션으로 커밋되어 메타데이터 테이블 잠금과 undo가 짧게 유지됩니다.
+ * 1. BATCH_STEP_EXECUTION_CONTEXT
+ * 2. BATCH_STEP_EXECUTION
+ * 3. BATCH_JOB_EXECUTION_CONTEXT
+ * 4. BATCH_JOB_EXECUTION_PARAMS
+ * 5. BATCH_JOB_EXECUTION
+ * 모든 실행을 삭제한 뒤, 실행 이력이 남지 않은 BATCH_JOB_INSTANCE를 같은 방식으로 삭제합니다.
+ *
+ * 실행 중(STARTING, STARTED, STOPPING)인 Job 실행은 삭제하지 않습니다.
+ * 삭제한 실패 Job은 더 이상 재시작할 수 없습니다.
+ *
+ * Job 파라미터:
+ * - retentionDays: 보존 일수 (기본값: batch.metadata.purge.retention-days)
+ * - chunkSize: 청크당 삭제할 Job 실행 수 (기본값: batch.metadata.purge.chunk-size)
+ */
+@Slf4j
+@Component
+public class BatchMetadataPurgeTasklet implements Tasklet {
+
+    private static final String HORIZON_KEY = "purge.horizon";
+    private static final String PURGED_COUNT_KEY = "purge.purgedCount";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${spring.batch.jdbc.table-prefix:BATCH_}")
+    private String tablePrefix;
+
+    @Value("${batch.metadata.purge.retention-days:90}")
+    private int defaultRetentionDays;
+
+    @Value("${batch.metadata.purge.chunk-size:500}")
+    private int defaultChunkSize;
+
+    /**
+     * 배치 메타데이터 전용 DataSource가 있으면 사용하고, 없으면 애플리케이션 DataSource 사용
+     */
+    public BatchMetadataPurgeTasklet(@BatchDataSource ObjectProvider<DataSource> batchDataSource,
+                                     DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(batchDataSource.getIfAvailable(() -> dataSource));
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+
+        // 최초 실행 시 보존 기준 일시를 고정 (재시작해도 같은 기준으로 삭제)
+        if (!executionContext.containsKey(HORIZON_KEY)) {
+            int retentionDays = intParameter(jobParameters, "retentionDays", defaultRetentionDays);
+            LocalDateTime horizon = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+            executionContext.putString(HORIZON_KEY, horizon.toString());
+            executionContext.putLong(PURGED_COUNT_KEY, 0L);
+            log.info("배치 메타데이터 정리 시작 - 보존 일수: {}일, 기준 일시: {}", retentionDays, horizon);
+        }
+
+        LocalDateTime horizon = LocalDateTime.parse(executionContext.getString(HORIZON_KEY));
+        int chunkSize = intParameter(jobParameters, "chunkSize", defaultChunkSize);
+
+        List<Long> jobExecutionIds = jdbcTemplate.queryForList(table("""
+            SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION
+            WHERE CREATE_TIME < :horizon
+              AND STATUS NOT IN ('STARTING', 'STARTED', 'STOPPING')
+            ORDER BY JOB_EXECUTION_ID
+            FETCH FIRST :chunkSize ROWS ONLY
+            """), new MapSqlParameterSource()
+                .addValue("horizon", horizon)
+                .addValue("chunkSize", chunkSize), Long.class);
+
+        if (!jobExecutionIds.isEmpty()) {
+            MapSqlParameterSource ids = new MapSqlParameterSource("ids", jobExecutionIds);
+            int stepContexts = jdbcTemplate.update(table("""
+                DELETE FROM %PREFIX%STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN (
+                    SELECT STEP_EXECUTION_ID FROM %PREFIX%STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids))
+                """), ids);
+            int steps = jdbcTemplate.update(table(
+                "DELETE FROM %PREFIX%STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)"), ids);
+            jdbcTemplate.update(table("DELETE FROM %PREFIX%JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN (:ids)"), ids);
+            jdbcTemplate.update(table("DELETE FROM %PREFIX%JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (:ids)"), ids);
+            int executions = jdbcTemplate.update(table(
+                "DELETE FROM %PREFIX%JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)"), ids);
+
+            long purgedCount = executionContext.getLong(PURGED_COUNT_KEY) + executions;
+            executionContext.putLong(PURGED_COUNT_KEY, purgedCount);
+            contribution.incrementWriteCount(executions);
+            log.info("Job 실행 이력 삭제 - Job 실행: {}건 (ID {} ~ {}), Step 실행: {}건, Step 컨텍스트: {}건, 누적: {}건",
+                executions, jobExecutionIds.get(0), jobExecutionIds.get(jobExecutionIds.size() - 1),
+                steps, stepContexts, purgedCount);
+            return RepeatStatus.CONTINUABLE;
+        }
+
+        // 실행 이력이 모두 삭제된 Job 인스턴스 정리
+        List<Long> jobInstanceIds = jdbcTemplate.queryForList(table("""
+            SELECT i.JOB_INSTANCE_ID FROM %PREFIX%JOB_INSTANCE i
+            WHERE NOT EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION e WHERE e.JOB_INSTANCE_ID = i.JOB_INSTANCE_ID)
+            ORDER BY i.JOB_INSTANCE_ID
+            FETCH FIRST :chunkSize ROWS ONLY
+            """), new MapSqlParameterSource("chunkSize", chunkSize), Long.class);
+
+        if (!jobInstanceIds.isEmpty()) {
+            int instances = jdbcTemplate.update(table(
+                "DELETE FROM %PREFIX%JOB_INSTANCE WHERE JOB_INSTANCE_ID IN (:ids)"),
+                new MapSqlParameterSource("ids", jobInstanceIds));
+            log.info("Job 인스턴스 삭제 - {}건", instances);
+            return RepeatStatus.CONTINUABLE;
+        }
+
+        log.info("배치 메타데이터 정리 완료 - 기준 일시: {}, 삭제한 Job 실행: {}건",
+            horizon, executionContext.getLong(PURGED_COUNT_KEY));
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 테이블 접두사 적용 (spring.batch.jdbc.table-prefix)
+     */
+    private String table(String sql) {
+        return sql.replace("%PREFIX%", tablePrefix);
+    }
+
+    /**
+     * Job 파라미터를 정수로 변환 (없으면 기본값)
+     */
+    private int intParameter(Map<String, Object> jobParameters, String name, int defaultValue) {
+        Object value = jobParameters.get(name);
+        return value != null ? Integer.parseInt(value.toString()) : defaultValue;
+    }
+}
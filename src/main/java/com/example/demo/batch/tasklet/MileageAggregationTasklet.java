@@ -11,10 +11,16 @@ import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
 
 /**
  * 마일리지 일별 집계 Tasklet
  * 마일리지 히스토리로부터 일별 적립/사용 금액을 집계
+ *
+ * Job 파라미터:
+ * - days: 집계 기간 (오늘 포함 최근 N일, 기본값: 30)
+ * - startDate, endDate: 집계 기간 (yyyy-MM-dd, 지정하면 days 대신 사용, 집계 스케줄러에서 지정)
  */
 @Slf4j
 @Component
@@ -30,14 +36,25 @@ public class MileageAggregationTasklet implements Tasklet {
         log.info("마일리지 일별 집계 시작");
         long startTime = System.currentTimeMillis();
 
-        LocalDate today = LocalDate.now();
-        LocalDate startDate = today.minusDays(DAYS_IN_MONTH - 1);
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+        LocalDate startDate;
+        int days;
+        if (jobParameters.get("startDate") != null && jobParameters.get("endDate") != null) {
+            startDate = LocalDate.parse(jobParameters.get("startDate").toString());
+            LocalDate endDate = LocalDate.parse(jobParameters.get("endDate").toString());
+            days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        } else {
+            days = jobParameters.get("days") != null
+                ? Integer.parseInt(jobParameters.get("days").toString())
+                : DAYS_IN_MONTH;
+            startDate = LocalDate.now().minusDays(days - 1);
+        }
 
         int aggregatedDays = 0;
         long totalTransactions = 0;
 
         // 일별로 집계
-        for (int day = 0; day < DAYS_IN_MONTH; day++) {
+        for (int day = 0; day < days; day++) {
             LocalDate targetDate = startDate.plusDays(day);
 
             // 해당 일자의 집계 데이터 생성
@@ -0,0 +1,79 @@
+package com.example.demo.batch.tasklet;
+
+import com.example.demo.domain.MileageHistory;
+import com.example.demo.mapper.MileageHistoryMapper;
+import com.example.demo.mapper.MileageHistoryMapper.BalanceAdjustment;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마일리지 잔액 조정 Tasklet
+ * 생성된 이력의 회원별 합계가 MILEAGE 잔액과 일치하도록 잔액 조정 이력을 등록
+ *
+ * 회원별 누적 금액을 메모리에 들고 있지 않고 INSERT ... SELECT 한 번으로 DB에서 처리합니다.
+ * Zipf 편중이 큰 대용량 생성에서는 인기 회원의 조정 금액이 이력 amount(INTEGER) 범위를 넘을 수 있으므로,
+ * 그런 회원(소수)만 따로 조회하여 Integer.MAX_VALUE 이하의 여러 건으로 나누어 등록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MileageBalanceAdjustmentTasklet implements Tasklet {
+
+    private static final long MAX_ADJUSTMENT_AMOUNT = Integer.MAX_VALUE;
+    private static final String DESCRIPTION = "잔액 조정";
+
+    private final MileageHistoryMapper mileageHistoryMapper;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        log.info("최종 잔액 조정 시작");
+        long startTime = System.currentTimeMillis();
+
+        int adjusted = mileageHistoryMapper.insertBalanceAdjustments(MAX_ADJUSTMENT_AMOUNT);
+
+        List<BalanceAdjustment> oversized = mileageHistoryMapper.findOversizedBalanceAdjustments(MAX_ADJUSTMENT_AMOUNT);
+        for (BalanceAdjustment adjustment : oversized) {
+            adjusted += insertSplitAdjustment(adjustment);
+        }
+        contribution.incrementWriteCount(adjusted);
+
+        log.info("최종 잔액 조정 완료 - 조정 이력: {}건 (분할 등록 회원: {}명), 소요 시간: {}ms",
+            adjusted, oversized.size(), System.currentTimeMillis() - startTime);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 조정 금액을 MAX_ADJUSTMENT_AMOUNT 이하의 여러 건으로 나누어 등록
+     *
+     * @return 등록된 행 수
+     */
+    private int insertSplitAdjustment(BalanceAdjustment adjustment) {
+        String type = adjustment.difference() > 0 ? "EARN" : "USE";
+        long sign = Long.signum(adjustment.difference());
+        long remaining = Math.abs(adjustment.difference());
+        LocalDateTime now = LocalDateTime.now();
+
+        int rows = 0;
+        while (remaining > 0) {
+            long amount = Math.min(remaining, MAX_ADJUSTMENT_AMOUNT);
+            rows += mileageHistoryMapper.insert(MileageHistory.builder()
+                .mileageMemberId(adjustment.memberId())
+                .type(type)
+                .amount(Math.toIntExact(sign * amount))
+                .description(DESCRIPTION)
+                .createDate(now)
+                .build());
+            remaining -= amount;
+        }
+        log.debug("잔액 조정 분할 등록 - 회원: {}, 조정 금액: {}, 이력: {}건", adjustment.memberId(), adjustment.difference(), rows);
+        return rows;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Oracle 외부 테이블 LOCATION 변경 Tasklet
+ * 외부 테이블(MILEAGE_EXT, MILEAGE_HISTORY_EXT)의 LOCATION을 Job 파라미터의 파일명으로 변경
+ *
+ * ALTER TABLE은 DDL이라 실행 시 암묵적으로 커밋되므로, 적재(INSERT ... SELECT)와 같은 트랜잭션에 두지 않고
+ * 적재 Step 앞의 별도 Step으로 실행합니다. Oracle이 아니면 아무것도 하지 않습니다.
+ *
+ * Job 파라미터:
+ * - memberFile: 회원 CSV 파일명
+ * - historyFile: 이력 CSV 파일명
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MileageCsvExternalTableLocationTasklet implements Tasklet {
+
+    private static final Pattern ORACLE_FILE_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        if (!"Oracle".equalsIgnoreCase(database)) {
+            return RepeatStatus.FINISHED;
+        }
+
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+        String memberFile = (String) jobParameters.get("memberFile");
+        String historyFile = (String) jobParameters.get("historyFile");
+        if (memberFile != null) {
+            jdbcTemplate.execute("ALTER TABLE MILEAGE_EXT LOCATION ('" + oracleFileName(memberFile) + "')");
+        }
+        if (historyFile != null) {
+            jdbcTemplate.execute("ALTER TABLE MILEAGE_HISTORY_EXT LOCATION ('" + oracleFileName(historyFile) + "')");
+        }
+        log.info("외부 테이블 LOCATION 변경 - 회원 파일: {}, 이력 파일: {}", memberFile, historyFile);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 외부 테이블 LOCATION에 사용할 파일명 (DDL에 들어가므로 파일명 문자만 허용)
+     */
+    private String oracleFileName(String file) {
+        String fileName = Path.of(file).getFileName().toString();
+        if (!ORACLE_FILE_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("외부 테이블 파일명에 사용할 수 없는 문자가 있습니다: " + fileName);
+        }
+        return fileName;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 마일리지 CSV DB 내장 적재 Tasklet
+ * 애플리케이션에서 파싱하지 않고 DB가 파일을 직접 읽어 INSERT ... SELECT로 적재
+ *
+ * - H2: CSVREAD 함수로 파일을 읽음 (파일은 DB 서버(애플리케이션)에서 접근 가능한 경로)
+ * - Oracle: 외부 테이블(MILEAGE_EXT, MILEAGE_HISTORY_EXT)에서 INSERT ... SELECT
+ *   (외부 테이블과 DIRECTORY 객체는 db/oracle/mileage_csv_external_tables.sql로 미리 생성,
+ *    파일은 DIRECTORY 경로에 두고 Job 파라미터에는 파일명만 지정,
+ *    LOCATION 변경(DDL, 암묵적 커밋)은 앞 Step의 MileageCsvExternalTableLocationTasklet에서 처리)
+ *
+ * 회원/이력 적재는 이 Tasklet의 한 트랜잭션으로 처리되므로, 실패하면 모두 롤백되고 재시작 시 처음부터 다시 적재합니다.
+ *
+ * Job 파라미터:
+ * - memberFile: 회원 CSV (member_id,balance)
+ * - historyFile: 이력 CSV (member_id,type,amount,description,create_date)
+ * CSV 첫 줄은 헤더여야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MileageCsvNativeLoadTasklet implements Tasklet {
+
+    private static final String H2_MEMBER_SQL = """
+        INSERT INTO MILEAGE (member_id, balance, create_date, update_date)
+        SELECT CAST(MEMBER_ID AS BIGINT), CAST(BALANCE AS BIGINT), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM CSVREAD(?, 'MEMBER_ID,BALANCE', 'charset=UTF-8')
+        WHERE UPPER(MEMBER_ID) <> 'MEMBER_ID'
+        """;
+
+    private static final String H2_HISTORY_SQL = """
+        INSERT INTO MILEAGE_HISTORY (MILEAGE_member_id, type, amount, description, create_date)
+        SELECT CAST(MEMBER_ID AS BIGINT), TYPE, CAST(AMOUNT AS INTEGER), DESCRIPTION, CAST(CREATE_DATE AS TIMESTAMP)
+        FROM CSVREAD(?, 'MEMBER_ID,TYPE,AMOUNT,DESCRIPTION,CREATE_DATE', 'charset=UTF-8')
+        WHERE UPPER(MEMBER_ID) <> 'MEMBER_ID'
+        """;
+
+    // MILEAGE에는 APPEND(direct-path)를 쓰지 않음: 같은 트랜잭션의 이력 INSERT가 FK 검사로 MILEAGE를 읽으면
+    // direct-path로 적재한 테이블을 커밋 전에 읽게 되어 ORA-12838 발생
+    private static final String ORACLE_MEMBER_SQL = """
+        INSERT INTO MILEAGE (member_id, balance, create_date, update_date)
+        SELECT member_id, balance, SYSTIMESTAMP, SYSTIMESTAMP
+        FROM MILEAGE_EXT
+        """;
+
+    // MILEAGE_HISTORY는 MILEAGE FK가 활성화되어 있으면 Oracle이 APPEND를 무시하고 일반 INSERT로 처리
+    private static final String ORACLE_HISTORY_SQL = """
+        INSERT /*+ APPEND */ INTO MILEAGE_HISTORY (MILEAGE_member_id, type, amount, description, create_date)
+        SELECT member_id, type, amount, description, create_date
+        FROM MILEAGE_HISTORY_EXT
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+        String memberFile = (String) jobParameters.get("memberFile");
+        String historyFile = (String) jobParameters.get("historyFile");
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        log.info("CSV DB 내장 적재 시작 - DB: {}, 회원 파일: {}, 이력 파일: {}", database, memberFile, historyFile);
+
+        long startTime = System.currentTimeMillis();
+        int members = 0;
+        int histories = 0;
+
+        if ("H2".equalsIgnoreCase(database)) {
+            if (memberFile != null) {
+                members = jdbcTemplate.update(H2_MEMBER_SQL, Path.of(memberFile).toAbsolutePath().toString());
+            }
+            if (historyFile != null) {
+                histories = jdbcTemplate.update(H2_HISTORY_SQL, Path.of(historyFile).toAbsolutePath().toString());
+            }
+        } else if ("Oracle".equalsIgnoreCase(database)) {
+            if (memberFile != null) {
+                members = jdbcTemplate.update(ORACLE_MEMBER_SQL);
+            }
+            if (historyFile != null) {
+                histories = jdbcTemplate.update(ORACLE_HISTORY_SQL);
+            }
+        } else {
+            throw new IllegalStateException("DB 내장 CSV 적재를 지원하지 않는 DB입니다: " + database
+                + " (mileageCsvLoadJob을 사용하세요)");
+        }
+
+        contribution.incrementWriteCount(members + histories);
+        log.info("CSV DB 내장 적재 완료 - 회원: {}건, 이력: {}건, 소요 시간: {}ms",
+            members, histories, System.currentTimeMillis() - startTime);
+        return RepeatStatus.FINISHED;
+    }
+}
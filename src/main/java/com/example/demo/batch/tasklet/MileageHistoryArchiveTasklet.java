@@ -0,0 +1,100 @@
+package com.example.demo.batch.tasklet;
+
+import com.example.demo.mapper.MileageHistoryArchiveMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 마일리지 이력 아카이브 Tasklet
+ * 보존 기간이 지난 MILEAGE_HISTORY 데이터를 MILEAGE_HISTORY_ARCHIVE로 이관
+ *
+ * 한 번의 execute 호출에서 ID 기준 keyset으로 한 청크만 이관(복사 후 삭제)하고
+ * CONTINUABLE을 반환하므로, 청크마다 별도 트랜잭션으로 커밋됩니다.
+ * 보존 기준 일시와 마지막 이관 ID는 StepExecution의 ExecutionContext에 저장되어
+ * 실패 후 재시작하면 중단된 위치부터 이어서 이관합니다.
+ *
+ * Job 파라미터:
+ * - retentionDays: 보존 일수 (기본값: mileage.archive.retention-days)
+ * - chunkSize: 청크당 이관 건수 (기본값: mileage.archive.chunk-size)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MileageHistoryArchiveTasklet implements Tasklet {
+
+    private static final String HORIZON_KEY = "archive.horizon";
+    private static final String LAST_ID_KEY = "archive.lastId";
+    private static final String ARCHIVED_COUNT_KEY = "archive.archivedCount";
+
+    private final MileageHistoryArchiveMapper archiveMapper;
+
+    @Value("${mileage.archive.retention-days:365}")
+    private int defaultRetentionDays;
+
+    @Value("${mileage.archive.chunk-size:5000}")
+    private int defaultChunkSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+
+        // 최초 실행 시 보존 기준 일시를 고정 (재시작해도 같은 기준으로 이관)
+        if (!executionContext.containsKey(HORIZON_KEY)) {
+            int retentionDays = intParameter(jobParameters, "retentionDays", defaultRetentionDays);
+            LocalDateTime horizon = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+            executionContext.putString(HORIZON_KEY, horizon.toString());
+            executionContext.putLong(LAST_ID_KEY, 0L);
+            executionContext.putLong(ARCHIVED_COUNT_KEY, 0L);
+            log.info("마일리지 이력 아카이브 시작 - 보존 일수: {}일, 기준 일시: {}", retentionDays, horizon);
+        }
+
+        LocalDateTime horizon = LocalDateTime.parse(executionContext.getString(HORIZON_KEY));
+        long lastId = executionContext.getLong(LAST_ID_KEY);
+        int chunkSize = intParameter(jobParameters, "chunkSize", defaultChunkSize);
+
+        Long boundaryId = archiveMapper.findArchiveBoundaryId(horizon, lastId, chunkSize);
+        if (boundaryId == null) {
+            log.info("마일리지 이력 아카이브 완료 - 기준 일시: {}, 이관 건수: {}건",
+                horizon, executionContext.getLong(ARCHIVED_COUNT_KEY));
+            return RepeatStatus.FINISHED;
+        }
+
+        int copied = archiveMapper.copyToArchive(lastId, boundaryId, horizon);
+        int deleted = archiveMapper.deleteArchived(lastId, boundaryId, horizon);
+        if (copied != deleted) {
+            // 복사/삭제 건수가 다르면 청크 트랜잭션을 롤백
+            throw new IllegalStateException(String.format(
+                "아카이브 건수 불일치 - ID 구간: (%d, %d], 복사: %d건, 삭제: %d건", lastId, boundaryId, copied, deleted));
+        }
+
+        contribution.incrementWriteCount(deleted);
+        long archivedCount = executionContext.getLong(ARCHIVED_COUNT_KEY) + deleted;
+        executionContext.putLong(LAST_ID_KEY, boundaryId);
+        executionContext.putLong(ARCHIVED_COUNT_KEY, archivedCount);
+
+        log.info("아카이브 청크 이관 완료 - ID 구간: ({}, {}], 이관: {}건, 누적: {}건",
+            lastId, boundaryId, deleted, archivedCount);
+
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * Job 파라미터를 정수로 변환 (없으면 기본값)
+     */
+    private int intParameter(Map<String, Object> jobParameters, String name, int defaultValue) {
+        Object value = jobParameters.get(name);
+        return value != null ? Integer.parseInt(value.toString()) : defaultValue;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.demo.batch.tasklet;
+
+import com.example.demo.mapper.MileageHistoryArchiveMapper;
+import com.example.demo.mapper.MileageHistoryPartitionMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * 마일리지 이력 월 파티션 삭제 Tasklet
+ * 보존 기간이 지난 월 파티션을 (아카이브 복사 후) DROP PARTITION으로 제거
+ *
+ * 대량 DELETE 대신 파티션 단위 DDL로 제거하므로 삭제 비용이 데이터 양과 무관합니다.
+ * 한 번의 execute 호출에서 가장 오래된 월의 한 청크(ID 기준 keyset, chunkSize건)만 아카이브로 복사하고
+ * CONTINUABLE을 반환하므로, 청크마다 별도 트랜잭션으로 커밋되어 undo 사용량이 청크 크기로 제한됩니다.
+ * 월 전체 복사가 끝나면 해당 월 파티션을 삭제합니다. 월 전체가 보존 기준 일시 이전인 경우에만 삭제합니다.
+ *
+ * 인터벌 파티셔닝의 기준(transition) 파티션 P_INITIAL(mileage.history.interval-start 이전 데이터)은
+ * Oracle이 DROP을 허용하지 않으므로(ORA-14758) 파티션을 남겨 두고, 보존 기간이 지난 행을
+ * 아카이브 Job과 같은 방식(청크 단위 복사 후 삭제)으로 비웁니다.
+ *
+ * 처리 위치(월, 마지막 ID)는 StepExecution의 ExecutionContext에 저장되어 재시작 시 이어서 처리하며,
+ * 아카이브 복사는 이미 복사된 ID를 제외하므로 중복되지 않습니다.
+ *
+ * mileage.history.partitioning=oracle-interval 인 환경(Oracle 파티션 테이블)에서만 동작하며,
+ * 파티셔닝이 없는 환경(H2 등)에서는 아무 작업 없이 NOOP으로 종료합니다.
+ *
+ * Job 파라미터:
+ * - retentionDays: 보존 일수 (기본값: mileage.archive.retention-days)
+ * - archive: 삭제 전 아카이브 테이블로 복사 여부 (기본값: true)
+ * - chunkSize: 청크(트랜잭션)당 복사/삭제 건수 (기본값: mileage.archive.chunk-size)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MileageHistoryPartitionDropTasklet implements Tasklet {
+
+    private static final String PARTITIONING_ORACLE_INTERVAL = "oracle-interval";
+    private static final DateTimeFormatter PARTITION_KEY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String MONTH_KEY = "partitionDrop.month";
+    private static final String LAST_ID_KEY = "partitionDrop.lastId";
+
+    /**
+     * 기준 파티션 처리 중임을 나타내는 MONTH_KEY 값
+     */
+    private static final String TRANSITION = "transition";
+
+    private final MileageHistoryPartitionMapper partitionMapper;
+    private final MileageHistoryArchiveMapper archiveMapper;
+
+    @Value("${mileage.history.partitioning:none}")
+    private String partitioning;
+
+    /**
+     * 인터벌 파티션 시작 일시 (기준 파티션 P_INITIAL의 상한, db/oracle/mileage_history_partitioning.sql)
+     */
+    @Value("${mileage.history.interval-start:2020-01-01}")
+    private String intervalStart;
+
+    @Value("${mileage.archive.retention-days:365}")
+    private int defaultRetentionDays;
+
+    @Value("${mileage.archive.chunk-size:5000}")
+    private int defaultChunkSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (!PARTITIONING_ORACLE_INTERVAL.equals(partitioning)) {
+            log.warn("MILEAGE_HISTORY 파티셔닝이 설정되지 않은 환경입니다 (mileage.history.partitioning={}). "
+                + "보존 기간 관리는 mileageHistoryArchiveJob을 사용하세요.", partitioning);
+            contribution.setExitStatus(ExitStatus.NOOP);
+            return RepeatStatus.FINISHED;
+        }
+
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+        int retentionDays = intParameter(jobParameters, "retentionDays", defaultRetentionDays);
+        int chunkSize = intParameter(jobParameters, "chunkSize", defaultChunkSize);
+        boolean archive = !"false".equalsIgnoreCase(String.valueOf(jobParameters.getOrDefault("archive", "true")));
+        LocalDateTime horizon = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+
+        // 1. 기준 파티션(P_INITIAL): DROP 불가이므로 보존 기간이 지난 행을 청크 단위로 복사 후 삭제
+        LocalDateTime transitionEnd = LocalDate.parse(intervalStart).atStartOfDay();
+        LocalDateTime transitionHorizon = horizon.isBefore(transitionEnd) ? horizon : transitionEnd;
+        long lastId = lastId(executionContext, TRANSITION);
+        Long boundaryId = archiveMapper.findArchiveBoundaryId(transitionHorizon, lastId, chunkSize);
+        if (boundaryId != null) {
+            int copied = archive ? archiveMapper.copyToArchive(lastId, boundaryId, transitionHorizon) : 0;
+            int deleted = archiveMapper.deleteArchived(lastId, boundaryId, transitionHorizon);
+            if (archive && copied != deleted) {
+                // 복사/삭제 건수가 다르면 청크 트랜잭션을 롤백
+                throw new IllegalStateException(String.format(
+                    "기준 파티션 이관 건수 불일치 - ID 구간: (%d, %d], 복사: %d건, 삭제: %d건",
+                    lastId, boundaryId, copied, deleted));
+            }
+            contribution.incrementWriteCount(deleted);
+            executionContext.putLong(LAST_ID_KEY, boundaryId);
+            log.info("기준 파티션 청크 정리 완료 - ID 구간: ({}, {}], 삭제: {}건", lastId, boundaryId, deleted);
+            return RepeatStatus.CONTINUABLE;
+        }
+
+        // 2. 인터벌 월 파티션: 한 청크씩 아카이브 복사 후, 월 복사가 끝나면 DROP PARTITION
+        LocalDateTime oldest = partitionMapper.findOldestCreateDate(transitionEnd);
+        if (oldest == null) {
+            log.info("삭제할 파티션이 없습니다 - 인터벌 파티션 이력 데이터 없음");
+            return RepeatStatus.FINISHED;
+        }
+
+        LocalDateTime monthStart = oldest.toLocalDate().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime monthEnd = monthStart.plusMonths(1);
+        if (monthEnd.isAfter(horizon)) {
+            log.info("파티션 삭제 완료 - 보존 기준 일시({}) 이전의 월 파티션이 더 이상 없습니다", horizon);
+            return RepeatStatus.FINISHED;
+        }
+
+        if (archive) {
+            String month = monthStart.toLocalDate().toString();
+            lastId = lastId(executionContext, month);
+            boundaryId = partitionMapper.findMonthBoundaryId(monthStart, monthEnd, lastId, chunkSize);
+            if (boundaryId != null) {
+                int copied = partitionMapper.copyMonthToArchive(monthStart, monthEnd, lastId, boundaryId);
+                contribution.incrementWriteCount(copied);
+                executionContext.putLong(LAST_ID_KEY, boundaryId);
+                log.info("월 파티션 청크 아카이브 복사 완료 - 월: {}, ID 구간: ({}, {}], 복사: {}건",
+                    month, lastId, boundaryId, copied);
+                return RepeatStatus.CONTINUABLE;
+            }
+        }
+
+        // DDL은 Oracle에서 암묵적으로 커밋되므로 아카이브 복사가 모두 커밋된 뒤에 실행
+        partitionMapper.dropPartitionFor(monthStart.format(PARTITION_KEY_FORMATTER));
+        log.info("월 파티션 삭제 완료 - 월: {}", monthStart.toLocalDate());
+
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * 처리 대상(기준 파티션 또는 월)의 마지막 처리 ID, 대상이 바뀌면 0부터 다시 시작
+     */
+    private long lastId(ExecutionContext executionContext, String target) {
+        if (!target.equals(executionContext.getString(MONTH_KEY, null))) {
+            executionContext.putString(MONTH_KEY, target);
+            executionContext.putLong(LAST_ID_KEY, 0L);
+        }
+        return executionContext.getLong(LAST_ID_KEY);
+    }
+
+    /**
+     * Job 파라미터를 정수로 변환 (없으면 기본값)
+     */
+    private int intParameter(Map<String, Object> jobParameters, String name, int defaultValue) {
+        Object value = jobParameters.get(name);
+        return value != null ? Integer.parseInt(value.toString()) : defaultValue;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 애플리케이션 기동 설정
+ *
+ * fast-start 프로파일(spring.main.lazy-initialization=true)에서는 Bean을 처음 사용할 때 생성하므로
+ * 기동 시점에 반드시 만들어져야 하는 Bean을 지연 초기화에서 제외합니다.
+ * - JobRegistry: 기동 시 Job Bean을 등록해야 REST API에서 jobId로 Job을 찾을 수 있음
+ * - @Scheduled Bean(집계 스케줄러, Job 실행 승인 dispatcher)은 각 클래스에 @Lazy(false)로 지정
+ *
+ * 기동 완료 시 JVM 시작부터 준비 완료까지 걸린 시간을 로그로 남겨 기동 방식별 시간을 비교할 수 있게 합니다.
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    /**
+     * 지연 초기화 제외 대상
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBatchInfrastructure() {
+        return LazyInitializationExcludeFilter.forBeanTypes(JobRegistry.class);
+    }
+
+    /**
+     * 기동 완료 시간 로그
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void logStartupTime(ApplicationReadyEvent event) {
+        log.info("애플리케이션 기동 완료 - 준비까지 {}ms (JVM 시작 기준), 컨텍스트 기동 {}ms",
+            ManagementFactory.getRuntimeMXBean().getUptime(), event.getTimeTaken().toMillis());
+    }
+}
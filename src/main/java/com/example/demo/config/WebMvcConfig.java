@@ -0,0 +1,48 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC 설정 클래스
+ *
+ * API 응답의 콘텐츠 협상(Content Negotiation)에 바이너리 포맷을 추가합니다.
+ * Accept 헤더로 포맷을 선택하며, 지정하지 않으면 기존과 동일하게 JSON으로 응답합니다.
+ *
+ * 지원 포맷:
+ * - application/json: 기본 JSON (gzip 압축은 server.compression 설정으로 처리)
+ * - application/cbor: CBOR 바이너리
+ * - application/x-jackson-smile: Smile 바이너리
+ *
+ * 바이너리 포맷은 JSON 응답과 같은 Spring Boot Jackson 설정(spring.jackson.*)으로 만든 매퍼를 사용하므로
+ * null 포함 여부, 날짜 형식 등 응답 구조가 Accept 헤더와 관계없이 같습니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 클래스패스 감지로 기본 등록된 CBOR/Smile 컨버터를 Spring Boot Jackson 설정 기반 컨버터로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        // JSON 컨버터 뒤에 추가하여 Accept 헤더가 없거나 */* 인 경우 JSON이 우선 선택되도록 함
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    }
+}
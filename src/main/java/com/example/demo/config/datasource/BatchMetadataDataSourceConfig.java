@@ -0,0 +1,70 @@
+package com.example.demo.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.boot.autoconfigure.batch.BatchTransactionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Spring Batch 메타데이터 전용 DataSource 설정
+ *
+ * batch.datasource.url이 설정된 경우에만 활성화됩니다.
+ * JobRepository/JobExplorer(BATCH_* 테이블)는 이 DataSource의 작은 커넥션 풀을 사용하고,
+ * 마일리지 업무 쿼리는 기존 spring.datasource 풀을 그대로 사용하여 메타데이터 갱신이 업무 커넥션을 점유하지 않습니다.
+ *
+ * 두 Bean은 defaultCandidate=false로 등록하여 타입으로 주입받는 곳(Mapper, Step 트랜잭션 등)과
+ * Spring Boot 기본 DataSource/TransactionManager 자동 설정에는 영향을 주지 않습니다.
+ *
+ * 주의: 청크 커밋(업무 DB)과 StepExecution 갱신(메타데이터 DB)이 서로 다른 트랜잭션이 되므로,
+ * 커밋 직후 장애가 나면 재시작 시 마지막 청크가 다시 처리될 수 있습니다 (Writer는 멱등하게 작성).
+ *
+ * 설정하지 않으면 Spring Boot 기본 동작대로 애플리케이션 DataSource에 메타데이터를 저장합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "batch.datasource", name = "url")
+public class BatchMetadataDataSourceConfig {
+
+    /**
+     * 배치 메타데이터 DataSource (batch.datasource.* 설정 사용)
+     */
+    @Bean(defaultCandidate = false)
+    @BatchDataSource
+    @ConfigurationProperties("batch.datasource.hikari")
+    public HikariDataSource batchDataSource(
+            @Value("${batch.datasource.url}") String url,
+            @Value("${batch.datasource.username:}") String username,
+            @Value("${batch.datasource.password:}") String password,
+            @Value("${batch.datasource.driver-class-name:}") String driverClassName) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password);
+        if (!driverClassName.isEmpty()) {
+            builder.driverClassName(driverClassName);
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("batch-meta-pool");
+        log.info("배치 메타데이터 전용 DataSource 활성화 - url: {}", url);
+        return dataSource;
+    }
+
+    /**
+     * 배치 메타데이터 TransactionManager (JobRepository 및 메타데이터 정리 Job에서 사용)
+     */
+    @Bean(defaultCandidate = false)
+    @BatchTransactionManager
+    public JdbcTransactionManager batchTransactionManager(@BatchDataSource DataSource batchDataSource) {
+        return new JdbcTransactionManager(batchDataSource);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 복제본(replica) 상태 감시
+ *
+ * 주기적으로 복제본 연결 상태와 복제 지연(lag)을 확인하여,
+ * 연결할 수 없거나 지연이 허용치를 넘으면 읽기 요청을 원본(primary)으로 되돌립니다.
+ *
+ * 복제 지연은 lag-query(초 단위 숫자 하나를 반환하는 쿼리)로 측정합니다.
+ * 예) Oracle Active Data Guard:
+ *     SELECT EXTRACT(SECOND FROM TO_DSINTERVAL(value)) + EXTRACT(MINUTE FROM TO_DSINTERVAL(value)) * 60
+ *     FROM V$DATAGUARD_STATS WHERE name = 'apply lag'
+ * lag-query가 없으면(local H2 등) 연결 상태만 확인합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements InitializingBean {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaAvailable;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * 복제본으로 읽기 요청을 보내도 되는지 여부
+     */
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkReplica();
+    }
+
+    /**
+     * 복제본 연결 상태 및 복제 지연 확인
+     */
+    @Scheduled(fixedDelayString = "${mileage.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkReplica() {
+        boolean available;
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                available = false;
+                log.warn("복제본 연결 검증 실패 - 원본으로 읽기 요청을 보냅니다");
+            } else if (StringUtils.hasText(lagQuery)) {
+                double lagSeconds = queryLagSeconds(connection);
+                available = lagSeconds <= maxLagSeconds;
+                if (!available) {
+                    log.warn("복제 지연 초과 - 지연: {}초, 허용: {}초, 원본으로 읽기 요청을 보냅니다", lagSeconds, maxLagSeconds);
+                }
+            } else {
+                available = true;
+            }
+        } catch (Exception e) {
+            available = false;
+            log.warn("복제본 상태 확인 실패 - 원본으로 읽기 요청을 보냅니다: {}", e.getMessage());
+        }
+
+        if (available != replicaAvailable) {
+            log.info("복제본 읽기 라우팅 상태 변경: {} -> {}", replicaAvailable, available);
+        }
+        replicaAvailable = available;
+    }
+
+    private double queryLagSeconds(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            // 결과가 없으면 지연을 알 수 없으므로 허용치 초과로 간주
+            return resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정
+ *
+ * mileage.datasource.replica.enabled=true 인 경우에만 활성화됩니다.
+ * - 쓰기 및 일반 트랜잭션: spring.datasource (원본, primary)
+ * - @Transactional(readOnly = true) 조회: mileage.datasource.replica (복제본, replica)
+ * - 복제본 장애 또는 복제 지연 초과 시: 원본으로 자동 전환 (ReplicaLagMonitor)
+ *
+ * 비활성화 상태에서는 Spring Boot 기본 DataSource 자동 설정을 그대로 사용합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "mileage.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    /**
+     * 원본 DataSource (spring.datasource.* 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary-pool");
+        return dataSource;
+    }
+
+    /**
+     * 복제본 DataSource (mileage.datasource.replica.* 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("mileage.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${mileage.datasource.replica.url}") String url,
+            @Value("${mileage.datasource.replica.username:}") String username,
+            @Value("${mileage.datasource.replica.password:}") String password,
+            @Value("${mileage.datasource.replica.driver-class-name:}") String driverClassName) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password);
+        if (!driverClassName.isEmpty()) {
+            builder.driverClassName(driverClassName);
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("replica-pool");
+        return dataSource;
+    }
+
+    /**
+     * 복제본 상태 감시 (연결 상태 및 복제 지연)
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource replicaDataSource,
+            @Value("${mileage.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${mileage.datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLagSeconds);
+    }
+
+    /**
+     * 애플리케이션 기본 DataSource
+     * 라우팅 DataSource를 LazyConnectionDataSourceProxy로 감싸
+     * 트랜잭션의 readOnly 여부가 확정된 뒤(첫 쿼리 실행 시점) 연결 대상을 결정
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY, primaryDataSource,
+                ReplicationRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        log.info("읽기/쓰기 DataSource 라우팅 활성화 - readOnly 트랜잭션은 복제본으로 연결");
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
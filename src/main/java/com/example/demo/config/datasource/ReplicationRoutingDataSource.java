@@ -0,0 +1,34 @@
+package com.example.demo.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ *
+ * 현재 트랜잭션이 readOnly(@Transactional(readOnly = true))이고 복제본이 사용 가능하면
+ * 복제본(replica)으로, 그 외(쓰기 트랜잭션, 트랜잭션 없음, 복제본 지연/장애)에는 원본(primary)으로 연결합니다.
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 실제 쿼리 실행 시점에 라우팅해야 합니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaLagMonitor.isReplicaAvailable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.demo.config.mybatis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis 매핑 구문(Mapped Statement)별 실행 지표 Interceptor
+ *
+ * SQL 전체를 DEBUG 로그로 남기지 않고도 구문별 실행 시간과 처리 건수를 상시 확인하기 위한 Interceptor입니다.
+ * mybatis-spring-boot-starter가 Interceptor Bean을 SqlSessionFactory에 자동으로 등록합니다.
+ *
+ * Micrometer 지표 (태그 statement: Mapper 네임스페이스의 단순 이름 + 구문 ID, 예: MileageHistoryMapper.batchInsert)
+ * - mybatis.statement.duration: 구문 실행 시간 (Timer, 히스토그램, 태그 command: SELECT/INSERT/UPDATE/DELETE, result: success/error)
+ * - mybatis.statement.rows: 조회 건수 또는 변경 건수 (DistributionSummary)
+ * - mybatis.statement.batch.size: 한 번에 전달한 항목 수 (foreach 대상 컬렉션 크기, BATCH Executor 일괄 실행 시 구문 수)
+ * - mybatis.statement.batched: BATCH Executor에서 addBatch로 모은 구문 수 (Counter)
+ *
+ * 실행 시간이 mileage.mybatis.slow-query.threshold-ms 이상인 구문은 전용 로거(mybatis.slow-query)에 SQL과 함께 기록합니다.
+ * 바인딩 파라미터는 값 없이 이름과 타입만 남깁니다 (회원 ID, 금액 등 업무 데이터가 로그에 남지 않도록).
+ *
+ * 가로채는 메서드:
+ * - Executor.query / queryCursor / update: 구문 단위 실행 시간과 건수 (DefaultSqlSession이 호출하는 진입점)
+ * - Executor.flushStatements: BATCH Executor로 모아 둔 구문의 일괄 실행 결과
+ * - StatementHandler.batch: BATCH Executor에서 구문별 addBatch 횟수 (flushStatements 전까지 구문 실행 시간이 없으므로 건수만 기록)
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "flushStatements", args = {}),
+    @Signature(type = StatementHandler.class, method = "batch", args = {Statement.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("mybatis.slow-query");
+    private static final int MAX_LOGGED_PARAMETERS = 20;
+
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    @Value("${mileage.mybatis.metrics.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mileage.mybatis.slow-query.threshold-ms:1000}")
+    private long slowQueryThresholdMs;
+
+    @Value("${mileage.mybatis.slow-query.max-sql-length:2000}")
+    private int maxSqlLength;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (!enabled) {
+            return invocation.proceed();
+        }
+        if (invocation.getTarget() instanceof StatementHandler handler) {
+            return recordBatch(invocation, handler);
+        }
+        if ("flushStatements".equals(invocation.getMethod().getName())) {
+            return recordFlush(invocation);
+        }
+        return recordStatement(invocation);
+    }
+
+    /**
+     * Executor.query / queryCursor / update 실행 시간과 건수 기록
+     */
+    private Object recordStatement(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        StatementMeters statementMeters = meters(ms);
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable t) {
+            statementMeters.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw t;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        statementMeters.success.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        long rows = rowCount(result);
+        if (rows >= 0) {
+            statementMeters.rows.record(rows);
+        }
+        int batchSize = collectionSize(parameter);
+        if (batchSize > 0) {
+            statementMeters.batchSize.record(batchSize);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs >= slowQueryThresholdMs && SLOW_QUERY_LOG.isWarnEnabled()) {
+            logSlowQuery(ms, parameter, elapsedMs, rows);
+        }
+        return result;
+    }
+
+    /**
+     * BATCH Executor 일괄 실행 결과 기록 (구문별 실행 건수와 변경 건수)
+     */
+    private Object recordFlush(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (result instanceof List<?> batchResults) {
+            for (Object element : batchResults) {
+                if (element instanceof BatchResult batchResult) {
+                    StatementMeters statementMeters = meters(batchResult.getMappedStatement());
+                    long rows = 0;
+                    for (int updateCount : batchResult.getUpdateCounts()) {
+                        rows += Math.max(updateCount, 0);  // SUCCESS_NO_INFO(-2)는 건수에서 제외
+                    }
+                    statementMeters.rows.record(rows);
+                    statementMeters.batchSize.record(batchResult.getUpdateCounts().length);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * BATCH Executor의 addBatch 호출 수 기록
+     */
+    private Object recordBatch(Invocation invocation, StatementHandler handler) throws Throwable {
+        Object result = invocation.proceed();
+        MappedStatement ms = mappedStatement(handler);
+        if (ms != null) {
+            Metrics.globalRegistry.counter("mybatis.statement.batched", "statement", statementName(ms)).increment();
+        }
+        return result;
+    }
+
+    private StatementMeters meters(MappedStatement ms) {
+        return meters.computeIfAbsent(ms.getId(), id -> new StatementMeters(statementName(ms),
+            ms.getSqlCommandType().name()));
+    }
+
+    /**
+     * 느린 구문 로그 (SQL은 공백 정리 후 길이 제한, 파라미터는 이름과 타입만)
+     */
+    private void logSlowQuery(MappedStatement ms, Object parameter, long elapsedMs, long rows) {
+        try {
+            BoundSql boundSql = ms.getBoundSql(parameter);
+            String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+            if (sql.length() > maxSqlLength) {
+                sql = sql.substring(0, maxSqlLength) + "...";
+            }
+            SLOW_QUERY_LOG.warn("느린 구문 - {} {}ms, 건수: {}, SQL: {}, 파라미터: {}",
+                ms.getId(), elapsedMs, rows >= 0 ? rows : "-", sql, redactedParameters(ms, boundSql));
+        } catch (RuntimeException e) {
+            SLOW_QUERY_LOG.warn("느린 구문 - {} {}ms, 건수: {} (SQL 생성 실패: {})",
+                ms.getId(), elapsedMs, rows >= 0 ? rows : "-", e.getMessage());
+        }
+    }
+
+    /**
+     * 바인딩 파라미터 요약 (값 대신 타입, 최대 MAX_LOGGED_PARAMETERS개)
+     */
+    private String redactedParameters(MappedStatement ms, BoundSql boundSql) {
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        if (mappings.isEmpty()) {
+            return "[]";
+        }
+        Object parameterObject = boundSql.getParameterObject();
+        MetaObject metaObject = parameterObject != null ? ms.getConfiguration().newMetaObject(parameterObject) : null;
+        boolean simpleParameter = parameterObject != null
+            && ms.getConfiguration().getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass());
+
+        StringBuilder builder = new StringBuilder("[");
+        int limit = Math.min(mappings.size(), MAX_LOGGED_PARAMETERS);
+        for (int i = 0; i < limit; i++) {
+            String property = mappings.get(i).getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (simpleParameter) {
+                value = parameterObject;
+            } else {
+                value = metaObject != null && metaObject.hasGetter(property) ? metaObject.getValue(property) : null;
+            }
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(property).append("=<")
+                .append(value != null ? value.getClass().getSimpleName() : "null").append('>');
+        }
+        if (mappings.size() > limit) {
+            builder.append(", ... (총 ").append(mappings.size()).append("개)");
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * 조회 결과 건수 또는 변경 건수
+     * 건수를 알 수 없으면 -1 (Cursor는 열린 시점, BATCH Executor의 update는 flushStatements에서 기록)
+     */
+    private long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer count && count >= 0) {
+            return count;
+        }
+        return -1;
+    }
+
+    /**
+     * foreach 대상 컬렉션 크기 (파라미터가 컬렉션이거나 @Param 맵에 컬렉션이 있는 경우, 없으면 0)
+     */
+    private int collectionSize(Object parameter) {
+        if (parameter instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (parameter instanceof Map<?, ?> map) {
+            for (Object value : map.values()) {
+                if (value instanceof Collection<?> collection) {
+                    return collection.size();
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * RoutingStatementHandler → 실제 StatementHandler의 MappedStatement
+     */
+    private MappedStatement mappedStatement(StatementHandler handler) {
+        MetaObject metaObject = SystemMetaObject.forObject(handler);
+        if (metaObject.hasGetter("delegate.mappedStatement")) {
+            return (MappedStatement) metaObject.getValue("delegate.mappedStatement");
+        }
+        return null;
+    }
+
+    /**
+     * 지표 태그용 구문 이름 (com.example.demo.mapper.MileageHistoryMapper.batchInsert → MileageHistoryMapper.batchInsert)
+     */
+    private static String statementName(MappedStatement ms) {
+        String id = ms.getId();
+        int methodSeparator = id.lastIndexOf('.');
+        int namespaceSeparator = methodSeparator > 0 ? id.lastIndexOf('.', methodSeparator - 1) : -1;
+        return id.substring(namespaceSeparator + 1);
+    }
+
+    /**
+     * 구문별 지표 (구문마다 한 번만 등록하여 매 실행 시 Meter 조회 비용을 줄임)
+     */
+    private static final class StatementMeters {
+
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary rows;
+        private final DistributionSummary batchSize;
+
+        private StatementMeters(String statement, String command) {
+            this.success = timer(statement, command, "success");
+            this.error = timer(statement, command, "error");
+            this.rows = DistributionSummary.builder("mybatis.statement.rows")
+                .description("MyBatis 구문별 조회/변경 건수")
+                .tag("statement", statement)
+                .register(Metrics.globalRegistry);
+            this.batchSize = DistributionSummary.builder("mybatis.statement.batch.size")
+                .description("MyBatis 구문별 일괄 처리 항목 수")
+                .tag("statement", statement)
+                .register(Metrics.globalRegistry);
+        }
+
+        private static Timer timer(String statement, String command, String result) {
+            return Timer.builder("mybatis.statement.duration")
+                .description("MyBatis 구문별 실행 시간")
+                .tag("statement", statement)
+                .tag("command", command)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+        }
+    }
+}
@@ -2,14 +2,19 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.JobExecutionRequest;
 import com.example.demo.dto.JobExecutionResponse;
+import com.example.demo.dto.JobExecutionStatusResponse;
+import com.example.demo.service.BatchJobAdmissionService;
 import com.example.demo.service.BatchJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -22,9 +27,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class BatchJobController {
 
     private final BatchJobService batchJobService;
+    private final BatchJobAdmissionService batchJobAdmissionService;
 
     /**
      * 배치 Job을 실행하는 API
+     * Job은 별도 스레드 풀에서 실행되며, Job 종료를 기다리지 않고 실행 ID를 바로 반환합니다 (202 Accepted).
+     * 진행 상황은 GET /api/batch/executions/{executionId}로 조회합니다.
+     *
+     * 동시 실행 제한을 넘으면 우선순위(priority) 순서로 대기하며 QUEUED와 requestId를 반환합니다 (202 Accepted).
+     * 대기 중인 요청은 GET /api/batch/requests/{requestId}로 조회합니다.
+     * 같은 Job/파라미터의 요청이 대기 중이거나 실행 중이면 기존 요청 정보를 반환하거나(merge) 거부합니다(409 Conflict).
+     * 대기 큐가 가득 차면 거부합니다 (429 Too Many Requests).
      *
      * POST /api/batch/execute
      *
@@ -34,15 +47,17 @@ public class BatchJobController {
      *   "jobParameters": {
      *     "param1": "value1",
      *     "param2": "value2"
-     *   }
+     *   },
+     *   "priority": 0
      * }
      *
      * Response:
      * {
+     *   "requestId": "0b8f3c2e-...",
      *   "executionId": 1,
      *   "jobName": "sampleJob",
-     *   "status": "STARTED",
-     *   "startTime": "2025-10-28T10:30:00",
+     *   "status": "STARTING",
+     *   "startTime": null,
      *   "endTime": null,
      *   "exitCode": "UNKNOWN",
      *   "exitMessage": null,
@@ -67,14 +82,94 @@ public class BatchJobController {
             return ResponseEntity.badRequest().body(errorResponse);
         }
 
-        // Job 실행
-        JobExecutionResponse response = batchJobService.executeJob(request);
+        // Job 실행 승인 (바로 실행 또는 대기)
+        JobExecutionResponse response = batchJobAdmissionService.submit(request);
 
-        // 실행 결과에 따라 HTTP 상태 코드 설정
-        HttpStatus httpStatus = "FAILED".equals(response.getStatus())
-                ? HttpStatus.INTERNAL_SERVER_ERROR
-                : HttpStatus.OK;
+        return ResponseEntity.status(admissionStatus(response)).body(response);
+    }
+
+    /**
+     * 실행 요청 상태를 조회하는 API
+     * 대기 중이면 QUEUED와 대기 순번, 실행되었으면 실행 ID를 반환
+     *
+     * GET /api/batch/requests/{requestId}
+     *
+     * @param requestId 실행 요청 ID
+     * @return 실행 요청 상태 (없으면 404)
+     */
+    @GetMapping("/requests/{requestId}")
+    public ResponseEntity<JobExecutionResponse> getRequest(@PathVariable String requestId) {
+        JobExecutionResponse response = batchJobAdmissionService.getRequest(requestId);
+        if (response == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 실패하거나 중지된 Job 실행을 재시작하는 API
+     * 이전 실행과 같은 JobParameters로 실행하여 완료된 Step은 건너뛰고 실패 위치부터 이어서 실행
+     * 새 실행과 같은 실행 승인(동시 실행 제한, 대기 큐, 중복 요청 처리)을 거칩니다.
+     *
+     * POST /api/batch/executions/{executionId}/restart?priority=0
+     *
+     * @param executionId 재시작할 Job 실행 ID
+     * @param priority 실행 우선순위 (대기할 때만 적용, 기본값 0)
+     * @return Job 실행 결과
+     */
+    @PostMapping("/executions/{executionId}/restart")
+    public ResponseEntity<JobExecutionResponse> restartJob(@PathVariable Long executionId,
+                                                           @RequestParam(required = false) Integer priority) {
+        log.info("Received job restart request: executionId={}", executionId);
+
+        JobExecutionResponse response = batchJobAdmissionService.submitRestart(executionId, priority);
+
+        return ResponseEntity.status(admissionStatus(response)).body(response);
+    }
 
-        return ResponseEntity.status(httpStatus).body(response);
+    /**
+     * Job 실행 상태를 조회하는 API
+     * 상태, Step별 진행 건수(읽기/쓰기/스킵, 청크 커밋마다 갱신)와 처리량을 반환
+     *
+     * GET /api/batch/executions/{executionId}
+     *
+     * Response:
+     * {
+     *   "executionId": 1,
+     *   "jobName": "mileageHistoryExportJob",
+     *   "status": "STARTED",
+     *   "exitCode": "UNKNOWN",
+     *   "elapsedMillis": 12500,
+     *   "readCount": 250000,
+     *   "writeCount": 250000,
+     *   "throughput": 20000,
+     *   "completedStepCount": 0,
+     *   "steps": [ { "stepName": "mileageHistoryExportStep", "status": "STARTED", "writeCount": 250000, ... } ]
+     * }
+     *
+     * @param executionId Job 실행 ID
+     * @return Job 실행 상태 (없으면 404)
+     */
+    @GetMapping("/executions/{executionId}")
+    public ResponseEntity<JobExecutionStatusResponse> getJobExecutionStatus(@PathVariable Long executionId) {
+        JobExecutionStatusResponse response = batchJobService.getJobExecutionStatus(executionId);
+        if (response == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 실행 승인 결과에 따른 HTTP 상태 코드
+     */
+    private HttpStatus admissionStatus(JobExecutionResponse response) {
+        if (BatchJobAdmissionService.STATUS_REJECTED.equals(response.getStatus())) {
+            return BatchJobAdmissionService.EXIT_CODE_QUEUE_FULL.equals(response.getExitCode())
+                    ? HttpStatus.TOO_MANY_REQUESTS
+                    : HttpStatus.CONFLICT;
+        }
+        return "FAILED".equals(response.getStatus())
+                ? HttpStatus.INTERNAL_SERVER_ERROR
+                : HttpStatus.ACCEPTED;
     }
 }
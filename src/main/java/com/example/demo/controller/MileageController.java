@@ -6,16 +6,31 @@ import com.example.demo.domain.MileageHistory;
 import com.example.demo.service.MileageDailySummaryService;
 import com.example.demo.service.MileageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 마일리지 REST API 컨트롤러
  * 마일리지 조회 및 일별 집계 조회를 위한 API 제공
+ *
+ * 집계 조회 API는 MILEAGE_DAILY_SUMMARY.update_date 기반의 ETag/Last-Modified를 내려주며,
+ * If-None-Match/If-Modified-Since 요청에는 본문 직렬화 없이 304로 응답합니다.
+ *
+ * 과거 일자라도 자정 집계와 주간 재집계(월요일 02:00)가 끝나기 전에는 값이 바뀔 수 있으므로,
+ * 응답한 모든 일자의 update_date가 해당 일자를 다시 집계하는 주간 재집계 시각 이후일 때만 장기 캐시합니다.
  */
 @RestController
 @RequestMapping("/api/mileage")
@@ -25,6 +40,19 @@ public class MileageController {
     private final MileageService mileageService;
     private final MileageDailySummaryService summaryService;
 
+    /**
+     * 마감된 과거 일자 집계의 캐시 유지 시간
+     * 과거 일자는 수동 재집계/주간 재집계 외에는 변하지 않으므로 길게 캐시
+     */
+    @Value("${mileage.summary-cache.closed-day-max-age:24h}")
+    private Duration closedDayMaxAge;
+
+    /**
+     * 지난 일자지만 집계가 확정되지 않은(자정 집계/주간 재집계 전) 응답의 캐시 유지 시간
+     */
+    @Value("${mileage.summary-cache.open-day-max-age:5m}")
+    private Duration openDayMaxAge;
+
     /**
      * 회원 마일리지 조회
      * GET /api/mileage/{memberId}
@@ -41,10 +69,16 @@ public class MileageController {
     /**
      * 회원 마일리지 이력 조회
      * GET /api/mileage/{memberId}/history
+     * GET /api/mileage/{memberId}/history?startDate=2024-01-01&endDate=2024-01-31
      */
     @GetMapping("/{memberId}/history")
-    public ResponseEntity<List<MileageHistory>> getMileageHistory(@PathVariable Long memberId) {
-        List<MileageHistory> histories = mileageService.getMileageHistory(memberId);
+    public ResponseEntity<List<MileageHistory>> getMileageHistory(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<MileageHistory> histories = (startDate == null && endDate == null)
+                ? mileageService.getMileageHistory(memberId)
+                : mileageService.getMileageHistory(memberId, startDate, endDate);
         return ResponseEntity.ok(histories);
     }
 
@@ -59,7 +93,7 @@ public class MileageController {
         if (summary == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(summary);
+        return cacheableSummary(summary, List.of(summary), date);
     }
 
     /**
@@ -71,7 +105,7 @@ public class MileageController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         List<MileageDailySummary> summaries = summaryService.getDailySummariesByDateRange(startDate, endDate);
-        return ResponseEntity.ok(summaries);
+        return cacheableSummary(summaries, summaries, endDate);
     }
 
     /**
@@ -82,7 +116,7 @@ public class MileageController {
     public ResponseEntity<List<MileageDailySummary>> getRecentSummaries(
             @RequestParam(defaultValue = "7") int days) {
         List<MileageDailySummary> summaries = summaryService.getRecentSummaries(days);
-        return ResponseEntity.ok(summaries);
+        return cacheableSummary(summaries, summaries, LocalDate.now());
     }
 
     /**
@@ -97,7 +131,7 @@ public class MileageController {
         if (statistics == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(statistics);
+        return cacheableSummary(statistics, List.of(statistics), endDate);
     }
 
     /**
@@ -113,4 +147,82 @@ public class MileageController {
         }
         return ResponseEntity.ok(summary);
     }
+
+    /**
+     * 집계 조회 응답에 ETag, Last-Modified, Cache-Control 헤더를 설정
+     * 요청의 조건부 헤더와 일치하면 Spring MVC가 본문을 직렬화하지 않고 304로 응답
+     *
+     * @param body 응답 본문
+     * @param summaries ETag/Last-Modified 계산에 사용할 집계 목록
+     * @param lastDate 응답에 포함된 마지막 집계 일자
+     * @return 캐시 헤더가 설정된 응답
+     */
+    private <T> ResponseEntity<T> cacheableSummary(T body, List<MileageDailySummary> summaries, LocalDate lastDate) {
+        // 당일이 포함된 범위는 계속 갱신되므로 매번 재검증, 확정된 과거 범위만 장기 캐시
+        CacheControl cacheControl;
+        if (!lastDate.isBefore(LocalDate.now())) {
+            cacheControl = CacheControl.noCache();
+        } else if (isFinalized(summaries, lastDate)) {
+            cacheControl = CacheControl.maxAge(closedDayMaxAge).cachePublic();
+        } else {
+            cacheControl = CacheControl.maxAge(openDayMaxAge).cachePublic();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT)  // JSON/CBOR/Smile 콘텐츠 협상 결과별로 캐시
+                .eTag(summaryETag(summaries));
+
+        LocalDateTime lastModified = summaries.stream()
+                .map(MileageDailySummary::getUpdateDate)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        if (lastModified != null) {
+            builder.lastModified(lastModified.atZone(ZoneId.systemDefault()));
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * 응답한 집계가 더 이상 바뀌지 않는지 확인
+     * 마지막 일자의 집계가 있고, 모든 일자가 자신을 다시 집계하는 주간 재집계 이후에 갱신되었으면 확정
+     * (기간 합계처럼 일자별 수정일시를 알 수 없는 응답은 확정으로 보지 않음)
+     *
+     * @param summaries 응답에 포함된 집계 목록
+     * @param lastDate 응답에 포함된 마지막 집계 일자
+     * @return 확정되었으면 true
+     */
+    private boolean isFinalized(List<MileageDailySummary> summaries, LocalDate lastDate) {
+        boolean hasLastDate = summaries.stream().anyMatch(summary -> lastDate.equals(summary.getSummaryDate()));
+        return hasLastDate && summaries.stream().allMatch(summary -> summary.getSummaryDate() != null
+                && summary.getUpdateDate() != null
+                && !summary.getUpdateDate().isBefore(weeklyReaggregationTime(summary.getSummaryDate())));
+    }
+
+    /**
+     * 해당 일자를 다시 집계하는 주간 재집계 시각 (다음 월요일 02:00, MileageAggregationScheduler.aggregateLastWeek)
+     */
+    private static LocalDateTime weeklyReaggregationTime(LocalDate date) {
+        return date.with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atTime(2, 0);
+    }
+
+    /**
+     * 집계 목록의 일자, 금액/건수, 수정일시로 약한(weak) ETag 생성
+     * 본문 직렬화 없이 계산할 수 있도록 필드 값만 사용
+     */
+    private String summaryETag(List<MileageDailySummary> summaries) {
+        long hash = 1125899906842597L;
+        for (MileageDailySummary summary : summaries) {
+            hash = 31 * hash + Objects.hash(
+                    summary.getSummaryDate(),
+                    summary.getTotalEarnAmount(),
+                    summary.getTotalEarnCount(),
+                    summary.getTotalUseAmount(),
+                    summary.getTotalUseCount(),
+                    summary.getNetAmount(),
+                    summary.getUpdateDate());
+        }
+        return "W/\"" + summaries.size() + "-" + Long.toHexString(hash) + "\"";
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.demo.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 스킵 항목 도메인 객체
+ * Chunk Step에서 읽기/처리/쓰기에 실패하여 건너뛴 항목
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MileageSkippedItem {
+    /**
+     * 스킵 ID (Primary Key, Auto Increment)
+     */
+    private Long id;
+
+    /**
+     * Job 이름
+     */
+    private String jobName;
+
+    /**
+     * Step 이름
+     */
+    private String stepName;
+
+    /**
+     * Step 실행 ID
+     */
+    private Long stepExecutionId;
+
+    /**
+     * 실패 단계 (READ, PROCESS, WRITE)
+     */
+    private String phase;
+
+    /**
+     * 항목 내용 (toString, 읽기 실패는 오류 위치)
+     */
+    private String item;
+
+    /**
+     * 오류 메시지
+     */
+    private String errorMessage;
+
+    /**
+     * 생성일시
+     */
+    private LocalDateTime createDate;
+}
@@ -26,4 +26,10 @@ public class JobExecutionRequest {
      * Key-Value 형태로 전달
      */
     private Map<String, String> jobParameters;
+
+    /**
+     * 실행 우선순위 (클수록 먼저 실행, 기본값 0)
+     * 동시 실행 제한으로 대기할 때만 적용
+     */
+    private Integer priority;
 }
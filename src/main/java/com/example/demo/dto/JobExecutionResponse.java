@@ -16,6 +16,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class JobExecutionResponse {
 
+    /**
+     * 실행 요청 ID (대기 중인 요청의 상태 조회용)
+     */
+    private String requestId;
+
     /**
      * Job 실행 ID
      */
@@ -27,10 +32,15 @@ public class JobExecutionResponse {
     private String jobName;
 
     /**
-     * Job 실행 상태 (STARTING, STARTED, COMPLETED, FAILED 등)
+     * Job 실행 상태 (QUEUED, REJECTED, STARTING, STARTED, COMPLETED, FAILED 등)
      */
     private String status;
 
+    /**
+     * 대기 순번 (QUEUED인 경우, 1부터)
+     */
+    private Integer queuePosition;
+
     /**
      * Job 시작 시간
      */
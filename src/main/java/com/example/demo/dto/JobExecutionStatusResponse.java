@@ -0,0 +1,165 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 Job 실행 상태 조회 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobExecutionStatusResponse {
+
+    /**
+     * Job 실행 ID
+     */
+    private Long executionId;
+
+    /**
+     * Job 이름
+     */
+    private String jobName;
+
+    /**
+     * Job 실행 상태 (STARTING, STARTED, COMPLETED, FAILED 등)
+     */
+    private String status;
+
+    /**
+     * 종료 상태 코드 (실행 중이면 UNKNOWN)
+     */
+    private String exitCode;
+
+    /**
+     * 종료 메시지
+     */
+    private String exitMessage;
+
+    /**
+     * Job 파라미터
+     */
+    private Map<String, String> jobParameters;
+
+    /**
+     * Job 시작 시간
+     */
+    private LocalDateTime startTime;
+
+    /**
+     * Job 종료 시간 (실행 중이면 null)
+     */
+    private LocalDateTime endTime;
+
+    /**
+     * 경과 시간 (ms, 실행 중이면 현재까지)
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 읽은 항목 수 (파티션 Worker Step 제외 합계)
+     */
+    private Long readCount;
+
+    /**
+     * 쓴 항목 수 (파티션 Worker Step 제외 합계)
+     */
+    private Long writeCount;
+
+    /**
+     * 처리량 (쓴 항목 수 / 경과 시간, 건/초)
+     */
+    private Long throughput;
+
+    /**
+     * 완료된 Step 수
+     */
+    private Integer completedStepCount;
+
+    /**
+     * Step별 실행 정보
+     */
+    private List<StepProgress> steps;
+
+    /**
+     * Step 실행 정보
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepProgress {
+
+        /**
+         * Step 이름 (파티션 Worker Step은 "workerStep:partitionN")
+         */
+        private String stepName;
+
+        /**
+         * Step 실행 상태
+         */
+        private String status;
+
+        /**
+         * 종료 상태 코드
+         */
+        private String exitCode;
+
+        /**
+         * 읽은 항목 수
+         */
+        private Long readCount;
+
+        /**
+         * 쓴 항목 수
+         */
+        private Long writeCount;
+
+        /**
+         * 필터된 항목 수
+         */
+        private Long filterCount;
+
+        /**
+         * 스킵된 항목 수 (읽기 + 처리 + 쓰기)
+         */
+        private Long skipCount;
+
+        /**
+         * 커밋 횟수
+         */
+        private Long commitCount;
+
+        /**
+         * 롤백 횟수
+         */
+        private Long rollbackCount;
+
+        /**
+         * Step 시작 시간
+         */
+        private LocalDateTime startTime;
+
+        /**
+         * Step 종료 시간
+         */
+        private LocalDateTime endTime;
+
+        /**
+         * 경과 시간 (ms)
+         */
+        private Long elapsedMillis;
+
+        /**
+         * 처리량 (건/초)
+         */
+        private Long throughput;
+    }
+}
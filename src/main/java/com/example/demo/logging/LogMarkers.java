@@ -0,0 +1,26 @@
+package com.example.demo.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * 샘플링 대상 로그 Marker
+ *
+ * 항목/거래마다 남는 로그에 Marker를 붙이면 logback-spring.xml의 MarkerSamplingTurboFilter가
+ * 설정한 비율(1/rate)만 통과시킵니다. WARN 이상 또는 예외를 포함한 로그는 샘플링하지 않습니다.
+ */
+public final class LogMarkers {
+
+    /**
+     * 배치 항목(Reader/Processor/Writer)마다 남기는 로그 (mileage.logging.sampling.item-rate)
+     */
+    public static final Marker ITEM = MarkerFactory.getMarker("ITEM");
+
+    /**
+     * 마일리지 적립/사용 등 거래마다 남기는 로그 (mileage.logging.sampling.transaction-rate)
+     */
+    public static final Marker TRANSACTION = MarkerFactory.getMarker("TRANSACTION");
+
+    private LogMarkers() {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Marker 단위 로그 샘플링 TurboFilter
+ *
+ * 지정한 Marker가 붙은 로그를 rate건 중 1건만 통과시킵니다 (rate=1이면 모두 통과).
+ * TurboFilter는 로깅 이벤트 생성과 메시지 포맷팅 전에 호출되므로 버려지는 로그는 할당 비용이 거의 없습니다.
+ * 스레드 간 공유 카운터 대신 ThreadLocalRandom으로 판정하여 멀티스레드 Step에서도 경합이 없습니다.
+ *
+ * WARN 이상, 예외를 포함한 로그, 로거 레벨로 이미 걸러질 로그는 판정하지 않고 그대로 둡니다(NEUTRAL).
+ *
+ * 설정 예 (logback-spring.xml):
+ * <pre>
+ * &lt;turboFilter class="com.example.demo.logging.MarkerSamplingTurboFilter"&gt;
+ *     &lt;marker&gt;ITEM&lt;/marker&gt;
+ *     &lt;rate&gt;100&lt;/rate&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class MarkerSamplingTurboFilter extends TurboFilter {
+
+    private String marker;
+    private int rate = 1;
+
+    @Override
+    public FilterReply decide(Marker eventMarker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (!isStarted() || rate <= 1 || eventMarker == null || !eventMarker.contains(marker)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (t != null || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(rate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (marker == null || marker.isBlank()) {
+            addError("marker가 지정되지 않았습니다");
+            return;
+        }
+        super.start();
+    }
+
+    public void setMarker(String marker) {
+        this.marker = marker;
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+}
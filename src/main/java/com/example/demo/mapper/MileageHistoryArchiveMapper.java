@@ -0,0 +1,89 @@
+package com.example.demo.mapper;
+
+import com.example.demo.domain.MileageHistory;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마일리지 이력 아카이브 Mapper 인터페이스
+ * 보존 기간이 지난 이력의 이관(MILEAGE_HISTORY -> MILEAGE_HISTORY_ARCHIVE)과 아카이브 조회를 담당
+ */
+@Mapper
+public interface MileageHistoryArchiveMapper {
+
+    /**
+     * 다음 이관 대상 청크의 마지막 이력 ID 조회 (ID 기준 keyset)
+     *
+     * @param horizon 보존 기준 일시 (이 일시 이전 데이터가 이관 대상)
+     * @param lastId 직전 청크의 마지막 이력 ID
+     * @param limit 청크 크기
+     * @return 청크의 마지막 이력 ID, 이관 대상이 없으면 null
+     */
+    Long findArchiveBoundaryId(@Param("horizon") LocalDateTime horizon,
+                               @Param("lastId") long lastId,
+                               @Param("limit") int limit);
+
+    /**
+     * ID 구간의 이관 대상 이력을 아카이브 테이블로 복사
+     *
+     * @param fromId 시작 이력 ID (미포함)
+     * @param toId 종료 이력 ID (포함)
+     * @param horizon 보존 기준 일시
+     * @return 복사된 행 수
+     */
+    int copyToArchive(@Param("fromId") long fromId,
+                      @Param("toId") long toId,
+                      @Param("horizon") LocalDateTime horizon);
+
+    /**
+     * 아카이브로 복사된 ID 구간의 이력을 원본 테이블에서 삭제
+     *
+     * @param fromId 시작 이력 ID (미포함)
+     * @param toId 종료 이력 ID (포함)
+     * @param horizon 보존 기준 일시
+     * @return 삭제된 행 수
+     */
+    int deleteArchived(@Param("fromId") long fromId,
+                       @Param("toId") long toId,
+                       @Param("horizon") LocalDateTime horizon);
+
+    /**
+     * 아카이브된 이력 중 가장 최근 생성일시 조회
+     * 조회 범위가 이 일시 이전을 포함할 때만 아카이브를 함께 조회
+     *
+     * @return 가장 최근 생성일시, 아카이브가 비어 있으면 null
+     */
+    LocalDateTime findLatestArchivedDate();
+
+    /**
+     * 회원 ID와 기간으로 아카이브 이력 목록 조회
+     *
+     * @param memberId 회원 ID
+     * @param startDateTime 시작 일시 (포함, null이면 제한 없음)
+     * @param endDateTime 종료 일시 (미포함, null이면 제한 없음)
+     * @return 마일리지 이력 목록
+     */
+    List<MileageHistory> findByMemberIdAndDateRange(@Param("memberId") Long memberId,
+                                                    @Param("startDateTime") LocalDateTime startDateTime,
+                                                    @Param("endDateTime") LocalDateTime endDateTime);
+
+    /**
+     * 회원 ID와 유형으로 아카이브 이력 목록 조회
+     *
+     * @param memberId 회원 ID
+     * @param type 마일리지 유형
+     * @return 마일리지 이력 목록
+     */
+    List<MileageHistory> findByMemberIdAndType(@Param("memberId") Long memberId, @Param("type") String type);
+
+    /**
+     * 회원의 아카이브 이력 수 조회
+     *
+     * @param memberId 회원 ID
+     * @return 이력 개수
+     */
+    int countByMemberId(@Param("memberId") Long memberId);
+}
@@ -4,6 +4,7 @@ import com.example.demo.domain.MileageHistory;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -29,6 +30,18 @@ public interface MileageHistoryMapper {
      */
     List<MileageHistory> findByMemberId(@Param("memberId") Long memberId);
 
+    /**
+     * 회원 ID와 기간으로 마일리지 이력 목록 조회
+     *
+     * @param memberId 회원 ID
+     * @param startDateTime 시작 일시 (포함, null이면 제한 없음)
+     * @param endDateTime 종료 일시 (미포함, null이면 제한 없음)
+     * @return 마일리지 이력 목록
+     */
+    List<MileageHistory> findByMemberIdAndDateRange(@Param("memberId") Long memberId,
+                                                    @Param("startDateTime") LocalDateTime startDateTime,
+                                                    @Param("endDateTime") LocalDateTime endDateTime);
+
     /**
      * 회원 ID와 유형으로 마일리지 이력 목록 조회
      *
@@ -78,4 +91,31 @@ public interface MileageHistoryMapper {
      * @return 등록된 행 수
      */
     int batchInsert(@Param("list") List<MileageHistory> historyList);
+
+    /**
+     * 회원별 이력 합계가 MILEAGE 잔액과 일치하도록 잔액 조정 이력 일괄 등록
+     * 이력 합계와 잔액의 차이만큼 EARN(부족분) 또는 USE(초과분) 이력을 회원당 한 건 등록
+     * 차이가 maxAmount를 넘는 회원은 제외합니다 (findOversizedBalanceAdjustments로 나누어 등록).
+     *
+     * @param maxAmount 한 건으로 등록할 최대 조정 금액 (절대값)
+     * @return 등록된 행 수
+     */
+    int insertBalanceAdjustments(@Param("maxAmount") long maxAmount);
+
+    /**
+     * 잔액 조정 금액(절대값)이 maxAmount를 넘는 회원 조회
+     *
+     * @param maxAmount 한 건으로 등록할 최대 조정 금액 (절대값)
+     * @return 회원별 조정 금액 (회원 ID 순)
+     */
+    List<BalanceAdjustment> findOversizedBalanceAdjustments(@Param("maxAmount") long maxAmount);
+
+    /**
+     * 회원별 잔액 조정 금액
+     *
+     * @param memberId 회원 ID
+     * @param difference 잔액 - 이력 합계
+     */
+    record BalanceAdjustment(long memberId, long difference) {
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.demo.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 이력 파티션 관리 Mapper 인터페이스
+ * Oracle 월별 인터벌 파티션(db/oracle/mileage_history_partitioning.sql)의 이관 및 삭제를 담당
+ */
+@Mapper
+public interface MileageHistoryPartitionMapper {
+
+    /**
+     * 인터벌 파티션 범위의 원본 이력 중 가장 오래된 생성일시 조회
+     *
+     * @param from 인터벌 파티션 시작 일시 (기준 파티션 데이터 제외)
+     * @return 가장 오래된 생성일시, 이력이 없으면 null
+     */
+    LocalDateTime findOldestCreateDate(@Param("from") LocalDateTime from);
+
+    /**
+     * 한 달치 이력 중 다음 복사 대상 청크의 마지막 이력 ID 조회 (ID 기준 keyset)
+     *
+     * @param monthStart 월 시작 일시 (포함)
+     * @param monthEnd 다음 월 시작 일시 (미포함)
+     * @param lastId 마지막으로 복사한 ID
+     * @param limit 청크 크기
+     * @return 청크의 마지막 ID, 남은 이력이 없으면 null
+     */
+    Long findMonthBoundaryId(@Param("monthStart") LocalDateTime monthStart,
+                             @Param("monthEnd") LocalDateTime monthEnd,
+                             @Param("lastId") long lastId,
+                             @Param("limit") int limit);
+
+    /**
+     * 한 달치 이력 중 ID 구간을 아카이브 테이블로 복사 (이미 복사된 ID는 제외)
+     * create_date 범위 조건으로 해당 월 파티션만 읽음
+     *
+     * @param monthStart 월 시작 일시 (포함)
+     * @param monthEnd 다음 월 시작 일시 (미포함)
+     * @param fromId 시작 ID (미포함)
+     * @param toId 종료 ID (포함)
+     * @return 복사된 행 수
+     */
+    int copyMonthToArchive(@Param("monthStart") LocalDateTime monthStart,
+                           @Param("monthEnd") LocalDateTime monthEnd,
+                           @Param("fromId") long fromId,
+                           @Param("toId") long toId);
+
+    /**
+     * 해당 일시가 속한 월 파티션 삭제 (Oracle DDL)
+     *
+     * @param partitionKey 파티션 키 값 (yyyy-MM-dd HH:mm:ss 형식의 TIMESTAMP 리터럴)
+     */
+    void dropPartitionFor(@Param("partitionKey") String partitionKey);
+}
@@ -4,6 +4,8 @@ import com.example.demo.domain.Mileage;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 /**
  * 마일리지 Mapper 인터페이스
  * MyBatis를 사용한 마일리지 데이터 접근 계층
@@ -19,6 +21,14 @@ public interface MileageMapper {
      */
     Mileage findByMemberId(@Param("memberId") Long memberId);
 
+    /**
+     * 여러 회원 ID로 마일리지 일괄 조회 (IN 쿼리)
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 마일리지 정보 목록 (존재하는 회원만 포함)
+     */
+    List<Mileage> findByMemberIds(@Param("memberIds") List<Long> memberIds);
+
     /**
      * 마일리지 신규 등록
      *
@@ -68,5 +78,5 @@ public interface MileageMapper {
      * @param mileageList 마일리지 정보 목록
      * @return 등록된 행 수
      */
-    int batchInsert(@Param("list") java.util.List<Mileage> mileageList);
+    int batchInsert(@Param("list") List<Mileage> mileageList);
 }
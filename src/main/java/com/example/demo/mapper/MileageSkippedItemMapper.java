@@ -0,0 +1,30 @@
+package com.example.demo.mapper;
+
+import com.example.demo.domain.MileageSkippedItem;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 배치 스킵 항목 Mapper 인터페이스
+ */
+@Mapper
+public interface MileageSkippedItemMapper {
+
+    /**
+     * 스킵 항목 등록
+     *
+     * @param skippedItem 스킵 항목
+     * @return 등록된 행 수
+     */
+    int insert(MileageSkippedItem skippedItem);
+
+    /**
+     * Step 실행의 스킵 항목 목록 조회
+     *
+     * @param stepExecutionId Step 실행 ID
+     * @return 스킵 항목 목록
+     */
+    List<MileageSkippedItem> findByStepExecutionId(@Param("stepExecutionId") Long stepExecutionId);
+}
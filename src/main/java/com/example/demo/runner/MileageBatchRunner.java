@@ -1,48 +1,103 @@
 package com.example.demo.runner;
 
+import com.example.demo.dto.JobExecutionRequest;
+import com.example.demo.dto.JobExecutionResponse;
+import com.example.demo.service.BatchJobAdmissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 /**
  * 마일리지 배치 자동 실행 Runner
  * 스프링 부트 시작 시 마일리지 데이터 생성 및 집계 배치를 자동으로 실행
+ *
+ * 실행 방식은 mileage.startup-job.mode로 지정합니다.
+ * - off: 실행하지 않음 (dev / tb / prd1 / prd2)
+ * - async: 실행 승인(BatchJobAdmissionService)에 제출만 하고 바로 반환하여 애플리케이션 기동을 막지 않음 (local)
+ * - sync: 실행 승인에 제출한 뒤 Job 종료까지 기다린 후 기동 완료 (Job이 실패하면 기동 실패)
+ * 다른 실행 경로와 같은 동시 실행 제한/중복 요청 처리를 받습니다.
+ * 그 외 값(YAML에서 따옴표 없이 쓴 off가 변환된 "false" 포함)은 동기 실행으로 넘기지 않고 기동을 실패시킵니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MileageBatchRunner implements CommandLineRunner {
 
-    private final JobLauncher jobLauncher;
-    private final Job mileageFullProcessJob;
+    private static final String MODE_OFF = "off";
+    private static final String MODE_ASYNC = "async";
+    private static final String MODE_SYNC = "sync";
+
+    private static final String JOB_NAME = "mileageFullProcessJob";
+    private static final long POLL_INTERVAL_MILLIS = 1000;
+
+    private final BatchJobAdmissionService batchJobAdmissionService;
+    private final JobExplorer jobExplorer;
+
+    @Value("${mileage.startup-job.mode:off}")
+    private String mode;
 
     @Override
     public void run(String... args) throws Exception {
+        if (!MODE_OFF.equalsIgnoreCase(mode) && !MODE_ASYNC.equalsIgnoreCase(mode) && !MODE_SYNC.equalsIgnoreCase(mode)) {
+            throw new IllegalStateException("mileage.startup-job.mode는 off, async, sync 중 하나여야 합니다: " + mode
+                + " (YAML에서는 off를 \"off\"로 감싸야 함)");
+        }
+        if (MODE_OFF.equalsIgnoreCase(mode)) {
+            log.info("마일리지 배치 자동 실행 비활성화 (mileage.startup-job.mode=off)");
+            return;
+        }
+
         log.info("=".repeat(80));
-        log.info("마일리지 배치 자동 실행 시작");
+        log.info("마일리지 배치 자동 실행 시작 - 실행 방식: {}", mode);
         log.info("=".repeat(80));
 
-        try {
-            // 고유한 JobParameters 생성 (같은 Job을 여러 번 실행하기 위해 timestamp 추가)
-            JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("timestamp", System.currentTimeMillis())
-                .toJobParameters();
+        // 마일리지 전체 처리 Job(데이터 생성 + 집계)을 실행 승인 후 Job 실행 스레드 풀에서 실행
+        // (Job 파라미터에는 실행마다 timestamp가 추가되어 매번 새 Job 인스턴스로 실행)
+        JobExecutionResponse response = batchJobAdmissionService.submit(
+            JobExecutionRequest.builder().jobId(JOB_NAME).build());
+        if (BatchJobAdmissionService.STATUS_REJECTED.equals(response.getStatus()) || "FAILED".equals(response.getStatus())) {
+            throw new IllegalStateException("마일리지 배치 자동 실행 실패 - 상태: " + response.getStatus()
+                + ", 메시지: " + response.getMessage());
+        }
+        log.info("마일리지 배치 자동 실행 제출 - 요청 ID: {}, 상태: {}, 실행 ID: {} (GET /api/batch/requests/{})",
+            response.getRequestId(), response.getStatus(), response.getExecutionId(), response.getRequestId());
+        if (MODE_ASYNC.equalsIgnoreCase(mode)) {
+            return;
+        }
 
-            // 마일리지 전체 처리 Job 실행 (데이터 생성 + 집계)
-            jobLauncher.run(mileageFullProcessJob, jobParameters);
+        JobExecution jobExecution = awaitCompletion(response.getRequestId());
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("마일리지 배치 자동 실행 실패 - 실행 ID: " + jobExecution.getId()
+                + ", 상태: " + jobExecution.getStatus());
+        }
 
-            log.info("=".repeat(80));
-            log.info("마일리지 배치 자동 실행 완료");
-            log.info("=".repeat(80));
+        log.info("=".repeat(80));
+        log.info("마일리지 배치 자동 실행 완료");
+        log.info("=".repeat(80));
+    }
 
-        } catch (Exception e) {
-            log.error("마일리지 배치 실행 중 오류 발생", e);
-            throw e;
+    /**
+     * 실행 요청이 승인되어 Job이 종료될 때까지 대기 (sync)
+     */
+    private JobExecution awaitCompletion(String requestId) throws InterruptedException {
+        while (true) {
+            JobExecutionResponse request = batchJobAdmissionService.getRequest(requestId);
+            if (request == null || "FAILED".equals(request.getStatus())) {
+                throw new IllegalStateException("마일리지 배치 자동 실행 실패 - 요청 ID: " + requestId
+                    + (request != null ? ", 메시지: " + request.getExitMessage() : ""));
+            }
+            if (request.getExecutionId() != null) {
+                JobExecution jobExecution = jobExplorer.getJobExecution(request.getExecutionId());
+                if (jobExecution != null && !jobExecution.isRunning()) {
+                    return jobExecution;
+                }
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
         }
     }
 }
@@ -1,24 +1,34 @@
 package com.example.demo.scheduler;
 
-import com.example.demo.domain.MileageDailySummary;
-import com.example.demo.service.MileageDailySummaryService;
+import com.example.demo.dto.JobExecutionRequest;
+import com.example.demo.dto.JobExecutionResponse;
+import com.example.demo.service.BatchJobAdmissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 /**
  * 마일리지 집계 스케줄러
  * 정기적으로 마일리지 일별 집계를 수행
+ *
+ * 집계는 mileageAggregationJob(startDate, endDate)을 실행 승인(BatchJobAdmissionService)에 제출하여 실행하므로
+ * REST API로 실행한 Job과 같은 동시 실행 제한을 받고, 같은 기간의 집계가 아직 실행 중이면 기존 요청으로 병합됩니다.
+ * 결과는 로그의 요청 ID/실행 ID로 GET /api/batch/requests/{requestId}, GET /api/batch/executions/{executionId}에서 확인합니다.
  */
 @Slf4j
 @Component
+@Lazy(false)
 @RequiredArgsConstructor
 public class MileageAggregationScheduler {
 
-    private final MileageDailySummaryService summaryService;
+    private static final String AGGREGATION_JOB = "mileageAggregationJob";
+
+    private final BatchJobAdmissionService batchJobAdmissionService;
 
     /**
      * 일별 마일리지 집계 스케줄러
@@ -26,34 +36,8 @@ public class MileageAggregationScheduler {
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void aggregateDailyMileage() {
-        log.info("=".repeat(80));
-        log.info("마일리지 일별 집계 스케줄러 시작");
-        log.info("=".repeat(80));
-
-        try {
-            // 전날 데이터 집계
-            LocalDate yesterday = LocalDate.now().minusDays(1);
-
-            log.info("집계 대상 일자: {}", yesterday);
-            MileageDailySummary summary = summaryService.aggregateAndSave(yesterday);
-
-            if (summary != null) {
-                log.info("마일리지 일별 집계 완료");
-                log.info("  - 일자: {}", summary.getSummaryDate());
-                log.info("  - 적립: {}건 / {}원", summary.getTotalEarnCount(), summary.getTotalEarnAmount());
-                log.info("  - 사용: {}건 / {}원", summary.getTotalUseCount(), summary.getTotalUseAmount());
-                log.info("  - 순증감: {}원", summary.getNetAmount());
-            } else {
-                log.warn("집계할 데이터가 없습니다 - 일자: {}", yesterday);
-            }
-
-        } catch (Exception e) {
-            log.error("마일리지 일별 집계 중 오류 발생", e);
-        }
-
-        log.info("=".repeat(80));
-        log.info("마일리지 일별 집계 스케줄러 종료");
-        log.info("=".repeat(80));
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        submit("일별 집계", yesterday, yesterday);
     }
 
     /**
@@ -62,28 +46,8 @@ public class MileageAggregationScheduler {
      */
     @Scheduled(cron = "0 0 * * * *")
     public void aggregateTodayMileage() {
-        log.info("마일리지 당일 집계 스케줄러 시작");
-
-        try {
-            LocalDate today = LocalDate.now();
-
-            MileageDailySummary summary = summaryService.aggregateAndSave(today);
-
-            if (summary != null) {
-                log.info("마일리지 당일 집계 완료 - 일자: {}, 적립: {}건/{}원, 사용: {}건/{}원",
-                    today,
-                    summary.getTotalEarnCount(),
-                    summary.getTotalEarnAmount(),
-                    summary.getTotalUseCount(),
-                    summary.getTotalUseAmount()
-                );
-            } else {
-                log.info("당일 집계할 데이터가 없습니다 - 일자: {}", today);
-            }
-
-        } catch (Exception e) {
-            log.error("마일리지 당일 집계 중 오류 발생", e);
-        }
+        LocalDate today = LocalDate.now();
+        submit("당일 집계", today, today);
     }
 
     /**
@@ -91,25 +55,20 @@ public class MileageAggregationScheduler {
      */
     @Scheduled(cron = "0 0 2 * * MON")
     public void aggregateLastWeek() {
-        log.info("=".repeat(80));
-        log.info("마일리지 주간 재집계 스케줄러 시작");
-        log.info("=".repeat(80));
+        LocalDate endDate = LocalDate.now().minusDays(1);
+        submit("주간 재집계", endDate.minusDays(6), endDate);
+    }
 
+    private void submit(String name, LocalDate startDate, LocalDate endDate) {
         try {
-            LocalDate endDate = LocalDate.now().minusDays(1);
-            LocalDate startDate = endDate.minusDays(6);
-
-            log.info("재집계 기간: {} ~ {}", startDate, endDate);
-            int aggregatedDays = summaryService.aggregateByDateRange(startDate, endDate);
-
-            log.info("마일리지 주간 재집계 완료 - 집계 일수: {}일", aggregatedDays);
-
+            JobExecutionResponse response = batchJobAdmissionService.submit(JobExecutionRequest.builder()
+                .jobId(AGGREGATION_JOB)
+                .jobParameters(Map.of("startDate", startDate.toString(), "endDate", endDate.toString()))
+                .build());
+            log.info("마일리지 {} 제출 - 기간: {} ~ {}, 요청 ID: {}, 상태: {}, 실행 ID: {}",
+                name, startDate, endDate, response.getRequestId(), response.getStatus(), response.getExecutionId());
         } catch (Exception e) {
-            log.error("마일리지 주간 재집계 중 오류 발생", e);
+            log.error("마일리지 {} 제출 중 오류 발생 - 기간: {} ~ {}", name, startDate, endDate, e);
         }
-
-        log.info("=".repeat(80));
-        log.info("마일리지 주간 재집계 스케줄러 종료");
-        log.info("=".repeat(80));
     }
 }
@@ -0,0 +1,369 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.JobExecutionRequest;
+import com.example.demo.dto.JobExecutionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 배치 Job 실행 승인(admission) 서비스
+ * Job 실행 요청을 BatchJobService에 넘기기 전에 동시 실행 수, 대기 순서, 중복 요청을 제어
+ *
+ * REST API 실행/재시작, 집계 스케줄러(MileageAggregationScheduler), 기동 시 자동 실행(MileageBatchRunner) 등
+ * Job을 실행하는 모든 경로는 이 서비스를 거칩니다.
+ *
+ * - 동시 실행 제한: 전체(batch.admission.max-concurrent-jobs)와 Job별(batch.admission.max-concurrent-per-job,
+ *   batch.admission.per-job-limits로 Job별 재정의) 실행 중 Job 수를 제한합니다.
+ * - 대기 큐: 제한을 넘는 요청은 우선순위(priority, 클수록 먼저) → 요청 순서로 대기하며,
+ *   주기적으로(batch.admission.dispatch-interval-ms) 종료된 Job의 자리를 확인하여 실행합니다.
+ *   앞선 요청이 Job별 제한에 걸려 있으면 다른 Job의 요청을 먼저 실행합니다.
+ * - 중복 요청: 같은 Job과 같은 파라미터(실행마다 추가되는 timestamp 제외)의 요청이 대기 중이거나 실행 중이면
+ *   기존 요청으로 병합(merge, 기존 요청 정보를 반환)하거나 거부(reject)합니다 (batch.admission.duplicate-policy).
+ *
+ * 대기/실행 상태는 애플리케이션 메모리에만 있으므로 재기동하면 대기 중인 요청은 사라집니다.
+ */
+@Slf4j
+@Service
+@Lazy(false)
+@RequiredArgsConstructor
+public class BatchJobAdmissionService {
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_REJECTED = "REJECTED";
+    public static final String EXIT_CODE_DUPLICATE = "DUPLICATE";
+    public static final String EXIT_CODE_QUEUE_FULL = "QUEUE_FULL";
+
+    private static final String DUPLICATE_POLICY_REJECT = "reject";
+    private static final String TIMESTAMP_PARAMETER = "timestamp";
+    private static final String RESTART_KEY_PREFIX = "restart:";
+
+    private static final Comparator<AdmissionTicket> DISPATCH_ORDER = Comparator
+        .comparingInt((AdmissionTicket ticket) -> ticket.priority).reversed()
+        .thenComparingLong(ticket -> ticket.sequence);
+
+    private final BatchJobService batchJobService;
+    private final JobExplorer jobExplorer;
+
+    @Value("${batch.admission.max-concurrent-jobs:4}")
+    private int maxConcurrentJobs;
+
+    @Value("${batch.admission.max-concurrent-per-job:1}")
+    private int maxConcurrentPerJob;
+
+    @Value("#{${batch.admission.per-job-limits:{:}}}")
+    private Map<String, Integer> perJobLimits;
+
+    @Value("${batch.admission.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${batch.admission.duplicate-policy:merge}")
+    private String duplicatePolicy;
+
+    @Value("${batch.admission.history-size:1000}")
+    private int historySize;
+
+    private final PriorityQueue<AdmissionTicket> queue = new PriorityQueue<>(DISPATCH_ORDER);
+    private final List<AdmissionTicket> running = new ArrayList<>();
+    private final Map<String, AdmissionTicket> activeByKey = new HashMap<>();
+    private final Map<String, AdmissionTicket> tickets = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AdmissionTicket> eldest) {
+            return size() > historySize;
+        }
+    };
+    private long sequence;
+
+    /**
+     * Job 실행을 요청합니다.
+     * 실행 자리가 있으면 바로 실행(STARTING)하고, 없으면 대기 큐에 넣습니다(QUEUED).
+     *
+     * @param request Job 실행 요청 정보 (jobId, jobParameters, priority)
+     * @return 실행 또는 대기 결과 (requestId로 상태 조회)
+     */
+    public JobExecutionResponse submit(JobExecutionRequest request) {
+        return admit(request, logicalKey(request), null);
+    }
+
+    /**
+     * 실패하거나 중지된 Job 실행의 재시작을 요청합니다.
+     * 새 실행과 같은 동시 실행 제한과 대기 큐를 거치며, 같은 실행 ID의 재시작 요청은 중복으로 처리합니다.
+     *
+     * @param executionId 재시작할 Job 실행 ID
+     * @param priority 실행 우선순위 (null이면 0)
+     * @return 실행 또는 대기 결과 (requestId로 상태 조회)
+     */
+    public JobExecutionResponse submitRestart(Long executionId, Integer priority) {
+        JobExecution previousExecution = jobExplorer.getJobExecution(executionId);
+        if (previousExecution == null) {
+            return JobExecutionResponse.builder()
+                .executionId(executionId)
+                .status("FAILED")
+                .exitCode("FAILED")
+                .message("Job execution not found: " + executionId)
+                .build();
+        }
+        JobExecutionRequest request = JobExecutionRequest.builder()
+            .jobId(previousExecution.getJobInstance().getJobName())
+            .priority(priority)
+            .build();
+        return admit(request, RESTART_KEY_PREFIX + executionId, executionId);
+    }
+
+    /**
+     * 실행 요청 상태를 조회합니다.
+     *
+     * @param requestId 실행 요청 ID
+     * @return 요청 상태 (대기 중이면 QUEUED와 대기 순번, 실행되었으면 실행 ID. 요청 정보가 없으면 null)
+     */
+    public synchronized JobExecutionResponse getRequest(String requestId) {
+        AdmissionTicket ticket = tickets.get(requestId);
+        if (ticket == null) {
+            return null;
+        }
+        return toResponse(ticket, ticket.launchResponse != null ? "Job execution launched" : "Job execution queued");
+    }
+
+    /**
+     * 종료된 Job의 실행 자리를 반납하고 대기 중인 요청을 우선순위 순서로 실행합니다.
+     *
+     * 대기/실행 목록 변경만 잠금 안에서 하고, JobExplorer 조회와 Job 실행(JobRepository 기록)은 잠금 밖에서 합니다.
+     * 실행할 요청은 잠금 안에서 실행 중 목록에 미리 넣어(자리 예약) 동시에 호출되어도 제한을 넘지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${batch.admission.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        releaseFinished();
+        for (AdmissionTicket ticket : reserve()) {
+            launch(ticket);
+        }
+    }
+
+    private JobExecutionResponse admit(JobExecutionRequest request, String key, Long restartExecutionId) {
+        AdmissionTicket ticket;
+        synchronized (this) {
+            AdmissionTicket existing = activeByKey.get(key);
+            if (existing != null) {
+                if (DUPLICATE_POLICY_REJECT.equalsIgnoreCase(duplicatePolicy)) {
+                    log.warn("중복 Job 실행 요청 거부 - jobId: {}, 기존 요청: {}", request.getJobId(), existing.requestId);
+                    return rejected(request, EXIT_CODE_DUPLICATE,
+                        "Duplicate request for the same job parameters: " + existing.requestId);
+                }
+                log.info("중복 Job 실행 요청 병합 - jobId: {}, 기존 요청: {}", request.getJobId(), existing.requestId);
+                return toResponse(existing, "Merged into existing request: " + existing.requestId);
+            }
+
+            if (queue.size() >= queueCapacity) {
+                log.warn("Job 실행 대기 큐 초과로 요청 거부 - jobId: {}, 대기: {}건", request.getJobId(), queue.size());
+                return rejected(request, EXIT_CODE_QUEUE_FULL, "Job admission queue is full: " + queueCapacity);
+            }
+
+            int priority = request.getPriority() != null ? request.getPriority() : 0;
+            ticket = new AdmissionTicket(UUID.randomUUID().toString(), key, request, priority, sequence++,
+                restartExecutionId);
+            queue.add(ticket);
+            activeByKey.put(key, ticket);
+            tickets.put(ticket.requestId, ticket);
+        }
+
+        dispatch();
+
+        synchronized (this) {
+            return toResponse(ticket, ticket.launchResponse != null
+                ? ticket.launchResponse.getMessage()
+                : "Job execution queued");
+        }
+    }
+
+    /**
+     * 실행 중 목록에서 종료된 Job을 제거 (JobExplorer 조회는 잠금 밖에서)
+     */
+    private void releaseFinished() {
+        List<AdmissionTicket> launched;
+        synchronized (this) {
+            launched = running.stream().filter(ticket -> ticket.executionId != null).toList();
+        }
+        List<AdmissionTicket> finished = launched.stream()
+            .filter(ticket -> {
+                JobExecution jobExecution = jobExplorer.getJobExecution(ticket.executionId);
+                return jobExecution == null || !jobExecution.isRunning();
+            })
+            .toList();
+        if (finished.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            for (AdmissionTicket ticket : finished) {
+                running.remove(ticket);
+                activeByKey.remove(ticket.key);
+                log.debug("Job 실행 자리 반납 - 요청: {}, 실행 ID: {}", ticket.requestId, ticket.executionId);
+            }
+        }
+    }
+
+    /**
+     * 실행 자리가 있는 대기 요청을 골라 실행 중 목록으로 옮김 (자리 예약)
+     *
+     * @return 실행할 요청
+     */
+    private synchronized List<AdmissionTicket> reserve() {
+        List<AdmissionTicket> reserved = new ArrayList<>();
+        if (queue.isEmpty() || running.size() >= maxConcurrentJobs) {
+            return reserved;
+        }
+
+        List<AdmissionTicket> candidates = new ArrayList<>(queue);
+        candidates.sort(DISPATCH_ORDER);
+        for (AdmissionTicket ticket : candidates) {
+            if (running.size() >= maxConcurrentJobs) {
+                break;
+            }
+            String jobId = ticket.request.getJobId();
+            if (runningCount(jobId) >= perJobLimit(jobId)) {
+                continue;
+            }
+            queue.remove(ticket);
+            running.add(ticket);
+            reserved.add(ticket);
+        }
+        return reserved;
+    }
+
+    /**
+     * 예약한 요청을 실행 (잠금 밖에서 실행 후 결과만 잠금 안에서 반영)
+     */
+    private void launch(AdmissionTicket ticket) {
+        JobExecutionResponse response;
+        try {
+            response = ticket.restartExecutionId != null
+                ? batchJobService.restartJob(ticket.restartExecutionId)
+                : batchJobService.executeJob(ticket.request);
+        } catch (RuntimeException e) {
+            // 예약한 자리가 남지 않도록 실패 결과로 반영
+            log.error("Job 실행 실패 - jobId: {}, 요청: {}", ticket.request.getJobId(), ticket.requestId, e);
+            response = JobExecutionResponse.builder()
+                .jobName(ticket.request.getJobId())
+                .status("FAILED")
+                .exitCode("FAILED")
+                .message("Unexpected error executing job: " + ticket.request.getJobId())
+                .exitMessage(e.getMessage())
+                .build();
+        }
+
+        synchronized (this) {
+            ticket.launchResponse = response;
+            if (response.getExecutionId() != null && !"FAILED".equals(response.getStatus())) {
+                ticket.executionId = response.getExecutionId();
+                log.info("Job 실행 승인 - jobId: {}, 요청: {}, 실행 ID: {}, 우선순위: {}, 실행 중: {}건, 대기: {}건",
+                    ticket.request.getJobId(), ticket.requestId, ticket.executionId, ticket.priority,
+                    running.size(), queue.size());
+            } else {
+                running.remove(ticket);
+                activeByKey.remove(ticket.key);
+            }
+        }
+    }
+
+    private long runningCount(String jobId) {
+        return running.stream().filter(ticket -> ticket.request.getJobId().equals(jobId)).count();
+    }
+
+    private int perJobLimit(String jobId) {
+        return perJobLimits.getOrDefault(jobId, maxConcurrentPerJob);
+    }
+
+    /**
+     * 중복 판단 키 (Job 이름 + 정렬한 파라미터, timestamp 제외)
+     */
+    private String logicalKey(JobExecutionRequest request) {
+        Map<String, String> parameters = new TreeMap<>();
+        if (request.getJobParameters() != null) {
+            parameters.putAll(request.getJobParameters());
+        }
+        parameters.remove(TIMESTAMP_PARAMETER);
+        return request.getJobId() + parameters;
+    }
+
+    /**
+     * 대기 순번 (1부터, 대기 중이 아니면 null)
+     */
+    private Integer queuePosition(AdmissionTicket ticket) {
+        if (!queue.contains(ticket)) {
+            return null;
+        }
+        return (int) queue.stream().filter(other -> DISPATCH_ORDER.compare(other, ticket) < 0).count() + 1;
+    }
+
+    private JobExecutionResponse toResponse(AdmissionTicket ticket, String message) {
+        if (ticket.launchResponse != null) {
+            JobExecutionResponse launched = ticket.launchResponse;
+            return JobExecutionResponse.builder()
+                .requestId(ticket.requestId)
+                .executionId(launched.getExecutionId())
+                .jobName(launched.getJobName())
+                .status(launched.getStatus())
+                .startTime(launched.getStartTime())
+                .endTime(launched.getEndTime())
+                .exitCode(launched.getExitCode())
+                .exitMessage(launched.getExitMessage())
+                .message(message)
+                .build();
+        }
+        return JobExecutionResponse.builder()
+            .requestId(ticket.requestId)
+            .jobName(ticket.request.getJobId())
+            .status(STATUS_QUEUED)
+            .queuePosition(queuePosition(ticket))
+            .exitCode("UNKNOWN")
+            .message(message)
+            .build();
+    }
+
+    private JobExecutionResponse rejected(JobExecutionRequest request, String exitCode, String message) {
+        return JobExecutionResponse.builder()
+            .jobName(request.getJobId())
+            .status(STATUS_REJECTED)
+            .exitCode(exitCode)
+            .message(message)
+            .build();
+    }
+
+    /**
+     * 실행 요청 한 건의 승인 상태
+     */
+    private static final class AdmissionTicket {
+        private final String requestId;
+        private final String key;
+        private final JobExecutionRequest request;
+        private final int priority;
+        private final long sequence;
+        private final Long restartExecutionId;
+        private Long executionId;
+        private JobExecutionResponse launchResponse;
+
+        private AdmissionTicket(String requestId, String key, JobExecutionRequest request, int priority, long sequence,
+                                Long restartExecutionId) {
+            this.requestId = requestId;
+            this.key = key;
+            this.request = request;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.restartExecutionId = restartExecutionId;
+        }
+    }
+}
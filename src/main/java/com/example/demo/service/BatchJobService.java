@@ -2,6 +2,7 @@ package com.example.demo.service;
 
 import com.example.demo.dto.JobExecutionRequest;
 import com.example.demo.dto.JobExecutionResponse;
+import com.example.demo.dto.JobExecutionStatusResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -9,7 +10,9 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
@@ -17,20 +20,28 @@ import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteExcep
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * 배치 Job 실행을 담당하는 서비스
+ *
+ * Job은 asyncJobLauncher(jobLauncherTaskExecutor 스레드 풀)로 실행하므로 실행 요청은 Job 종료를 기다리지 않고
+ * 실행 ID를 바로 반환합니다. 진행 상황과 결과는 getJobExecutionStatus로 조회합니다.
+ * executeJob/restartJob은 BatchJobAdmissionService가 실행 자리를 예약한 뒤 호출합니다 (직접 호출하지 않음).
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BatchJobService {
 
-    private final JobLauncher jobLauncher;
+    private final JobLauncher asyncJobLauncher;
     private final JobRegistry jobRegistry;
+    private final JobExplorer jobExplorer;
 
     /**
      * 배치 Job을 실행합니다.
@@ -46,9 +57,9 @@ public class BatchJobService {
             // JobParameters 생성
             JobParameters jobParameters = createJobParameters(request.getJobParameters());
 
-            // Job 실행
+            // Job 실행 (Job 실행 스레드 풀에 제출 후 바로 반환)
             log.info("Starting batch job: {} with parameters: {}", request.getJobId(), jobParameters);
-            JobExecution jobExecution = jobLauncher.run(job, jobParameters);
+            JobExecution jobExecution = asyncJobLauncher.run(job, jobParameters);
 
             // 실행 결과 반환
             return buildJobExecutionResponse(jobExecution, "Job execution started successfully");
@@ -115,6 +126,139 @@ public class BatchJobService {
         }
     }
 
+    /**
+     * 실패하거나 중지된 Job 실행을 같은 JobParameters로 재시작합니다.
+     * 완료된 Step은 건너뛰고, 실패한 Step은 ExecutionContext에 저장된 위치부터 이어서 실행합니다.
+     *
+     * @param executionId 재시작할 Job 실행 ID
+     * @return Job 실행 결과
+     */
+    public JobExecutionResponse restartJob(Long executionId) {
+        JobExecution previousExecution = jobExplorer.getJobExecution(executionId);
+        if (previousExecution == null) {
+            return JobExecutionResponse.builder()
+                    .executionId(executionId)
+                    .status("FAILED")
+                    .exitCode("FAILED")
+                    .message("Job execution not found: " + executionId)
+                    .build();
+        }
+
+        String jobName = previousExecution.getJobInstance().getJobName();
+        try {
+            Job job = jobRegistry.getJob(jobName);
+            log.info("Restarting batch job: {} (previous execution: {}) with parameters: {}",
+                    jobName, executionId, previousExecution.getJobParameters());
+            JobExecution jobExecution = asyncJobLauncher.run(job, previousExecution.getJobParameters());
+            return buildJobExecutionResponse(jobExecution, "Job execution restarted successfully");
+
+        } catch (Exception e) {
+            log.error("Job restart error: {} (previous execution: {})", jobName, executionId, e);
+            return JobExecutionResponse.builder()
+                    .executionId(executionId)
+                    .jobName(jobName)
+                    .status("FAILED")
+                    .exitCode("FAILED")
+                    .message("Job restart error: " + jobName)
+                    .exitMessage(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * Job 실행 상태를 조회합니다.
+     * JobRepository에 기록된 Job/Step 실행 정보로 상태, Step별 진행 건수와 처리량을 계산합니다.
+     * Step 진행 건수는 청크 커밋마다 갱신됩니다.
+     *
+     * @param executionId Job 실행 ID
+     * @return Job 실행 상태 (실행 정보가 없으면 null)
+     */
+    public JobExecutionStatusResponse getJobExecutionStatus(Long executionId) {
+        JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+        if (jobExecution == null) {
+            return null;
+        }
+
+        List<StepExecution> stepExecutions = jobExecution.getStepExecutions().stream()
+                .sorted(Comparator.comparing(StepExecution::getId))
+                .toList();
+
+        // 파티션 Worker Step(이름에 ':partition' 포함)의 건수는 Manager Step에 합산되므로 Job 합계에서 제외
+        long readCount = 0;
+        long writeCount = 0;
+        int completedStepCount = 0;
+        for (StepExecution stepExecution : stepExecutions) {
+            if (!stepExecution.getStepName().contains(":")) {
+                readCount += stepExecution.getReadCount();
+                writeCount += stepExecution.getWriteCount();
+            }
+            if (!stepExecution.getStatus().isRunning() && !stepExecution.getStatus().isUnsuccessful()) {
+                completedStepCount++;
+            }
+        }
+
+        Map<String, String> jobParameters = new LinkedHashMap<>();
+        jobExecution.getJobParameters().getParameters()
+                .forEach((name, parameter) -> jobParameters.put(name, String.valueOf(parameter.getValue())));
+
+        long elapsedMillis = elapsedMillis(jobExecution.getStartTime(), jobExecution.getEndTime());
+        return JobExecutionStatusResponse.builder()
+                .executionId(jobExecution.getId())
+                .jobName(jobExecution.getJobInstance().getJobName())
+                .status(jobExecution.getStatus().name())
+                .exitCode(jobExecution.getExitStatus().getExitCode())
+                .exitMessage(jobExecution.getExitStatus().getExitDescription())
+                .jobParameters(jobParameters)
+                .startTime(jobExecution.getStartTime())
+                .endTime(jobExecution.getEndTime())
+                .elapsedMillis(elapsedMillis)
+                .readCount(readCount)
+                .writeCount(writeCount)
+                .throughput(throughput(writeCount, elapsedMillis))
+                .completedStepCount(completedStepCount)
+                .steps(stepExecutions.stream().map(this::buildStepProgress).toList())
+                .build();
+    }
+
+    /**
+     * StepExecution 정보를 기반으로 Step 진행 정보를 생성합니다.
+     */
+    private JobExecutionStatusResponse.StepProgress buildStepProgress(StepExecution stepExecution) {
+        long elapsedMillis = elapsedMillis(stepExecution.getStartTime(), stepExecution.getEndTime());
+        return JobExecutionStatusResponse.StepProgress.builder()
+                .stepName(stepExecution.getStepName())
+                .status(stepExecution.getStatus().name())
+                .exitCode(stepExecution.getExitStatus().getExitCode())
+                .readCount(stepExecution.getReadCount())
+                .writeCount(stepExecution.getWriteCount())
+                .filterCount(stepExecution.getFilterCount())
+                .skipCount(stepExecution.getSkipCount())
+                .commitCount(stepExecution.getCommitCount())
+                .rollbackCount(stepExecution.getRollbackCount())
+                .startTime(stepExecution.getStartTime())
+                .endTime(stepExecution.getEndTime())
+                .elapsedMillis(elapsedMillis)
+                .throughput(throughput(stepExecution.getWriteCount(), elapsedMillis))
+                .build();
+    }
+
+    /**
+     * 경과 시간 (종료 전이면 현재 시각까지)
+     */
+    private long elapsedMillis(LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime == null) {
+            return 0L;
+        }
+        return Duration.between(startTime, endTime != null ? endTime : LocalDateTime.now()).toMillis();
+    }
+
+    /**
+     * 처리량 (건/초)
+     */
+    private long throughput(long count, long elapsedMillis) {
+        return elapsedMillis > 0 ? count * 1000 / elapsedMillis : 0L;
+    }
+
     /**
      * JobParameters를 생성합니다.
      * 각 Job 실행을 고유하게 만들기 위해 timestamp를 추가합니다.
@@ -148,12 +292,8 @@ public class BatchJobService {
                 .executionId(jobExecution.getId())
                 .jobName(jobExecution.getJobInstance().getJobName())
                 .status(jobExecution.getStatus().name())
-                .startTime(jobExecution.getStartTime() != null
-                        ? LocalDateTime.ofInstant(jobExecution.getStartTime().toInstant(), ZoneId.systemDefault())
-                        : null)
-                .endTime(jobExecution.getEndTime() != null
-                        ? LocalDateTime.ofInstant(jobExecution.getEndTime().toInstant(), ZoneId.systemDefault())
-                        : null)
+                .startTime(jobExecution.getStartTime())
+                .endTime(jobExecution.getEndTime())
                 .exitCode(jobExecution.getExitStatus().getExitCode())
                 .exitMessage(jobExecution.getExitStatus().getExitDescription())
                 .message(message)
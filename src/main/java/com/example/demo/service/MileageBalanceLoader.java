@@ -0,0 +1,219 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Mileage;
+import com.example.demo.mapper.MileageMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 회원 마일리지 단건 조회 마이크로 배칭 로더
+ *
+ * 짧은 대기 시간(window) 동안 동시에 들어온 단건 조회 요청을 모아
+ * 하나의 IN 쿼리로 조회한 뒤, 각 호출자의 Future를 결과로 완료합니다.
+ * 대기 시간이 지나거나 모인 회원 수가 최대 배치 크기에 도달하면 즉시 조회합니다.
+ * 같은 배치 안에서 동일한 회원 ID는 한 번만 조회됩니다.
+ * 진행 중인 배치 조회도, 모으고 있는 배치도 없을 때 들어온 요청은 대기 시간 없이 바로 조회합니다
+ * (부하가 낮을 때 단건 조회가 대기 시간만큼 느려지지 않도록, 묶음은 조회가 진행 중일 때만 만들어짐).
+ * 호출자는 최대 timeout-millis까지만 기다리며, 초과하면 예외로 응답합니다.
+ * 배치 조회는 디스패처 스레드에서 readOnly 트랜잭션으로 실행되므로
+ * 복제본 라우팅이 활성화된 환경에서는 복제본(replica)으로 조회됩니다.
+ */
+@Slf4j
+@Component
+public class MileageBalanceLoader {
+
+    private final MileageMapper mileageMapper;
+
+    /**
+     * 배치 조회용 readOnly 트랜잭션 (호출자 트랜잭션은 디스패처 스레드로 전파되지 않음)
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 요청을 모으는 최대 대기 시간 (마이크로초)
+     */
+    private final long windowMicros;
+
+    /**
+     * 한 번의 IN 쿼리로 조회할 최대 회원 수
+     */
+    private final int maxBatchSize;
+
+    /**
+     * 배칭 사용 여부 (false이면 호출 스레드에서 바로 단건 조회)
+     */
+    private final boolean enabled;
+
+    /**
+     * 호출자가 조회 결과를 기다리는 최대 시간 (밀리초)
+     */
+    private final long timeoutMillis;
+
+    private final ScheduledExecutorService dispatcher;
+
+    private final Object lock = new Object();
+
+    /**
+     * 현재 요청을 모으고 있는 배치 (lock으로 보호)
+     */
+    private Batch currentBatch;
+
+    /**
+     * 조회 중인 배치 수 (lock으로 보호)
+     */
+    private int inFlight;
+
+    public MileageBalanceLoader(MileageMapper mileageMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${mileage.balance-loader.enabled:true}") boolean enabled,
+                                @Value("${mileage.balance-loader.window-micros:2000}") long windowMicros,
+                                @Value("${mileage.balance-loader.max-batch-size:100}") int maxBatchSize,
+                                @Value("${mileage.balance-loader.dispatcher-threads:2}") int dispatcherThreads,
+                                @Value("${mileage.balance-loader.timeout-millis:3000}") long timeoutMillis) {
+        this.mileageMapper = mileageMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.windowMicros = windowMicros;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.dispatcher = Executors.newScheduledThreadPool(dispatcherThreads,
+                Thread.ofPlatform().name("mileage-loader-", 0).daemon(true).factory());
+    }
+
+    /**
+     * 회원 마일리지를 조회합니다.
+     * 동시에 들어온 다른 조회 요청과 묶여 하나의 쿼리로 처리됩니다.
+     *
+     * @param memberId 회원 ID
+     * @return 마일리지 정보, 없으면 null
+     */
+    public Mileage load(Long memberId) {
+        if (!enabled) {
+            return mileageMapper.findByMemberId(memberId);
+        }
+        try {
+            // 같은 회원의 다른 호출자와 공유하는 Future이므로 복사본에만 타임아웃 적용
+            return enqueue(memberId).copy().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IllegalStateException(
+                    "마일리지 조회 시간 초과 - 회원 ID: " + memberId + ", 대기 시간: " + timeoutMillis + "ms", e.getCause());
+            }
+            // 매퍼에서 발생한 예외를 그대로 호출자에게 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 조회 요청을 현재 배치에 등록합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 조회 결과로 완료될 Future
+     */
+    CompletableFuture<Mileage> enqueue(Long memberId) {
+        Batch readyBatch = null;
+        CompletableFuture<Mileage> future;
+
+        synchronized (lock) {
+            if (currentBatch == null && inFlight == 0) {
+                // 진행 중인 조회가 없으면 혼자 온 요청이므로 대기 시간 없이 바로 조회
+                readyBatch = new Batch();
+                future = readyBatch.futures.computeIfAbsent(memberId, id -> new CompletableFuture<>());
+                inFlight++;
+            } else {
+                if (currentBatch == null) {
+                    Batch batch = new Batch();
+                    currentBatch = batch;
+                    dispatcher.schedule(() -> flush(batch), windowMicros, TimeUnit.MICROSECONDS);
+                }
+                future = currentBatch.futures.computeIfAbsent(memberId, id -> new CompletableFuture<>());
+
+                // 최대 배치 크기에 도달하면 대기 시간을 기다리지 않고 바로 조회
+                if (currentBatch.futures.size() >= maxBatchSize) {
+                    readyBatch = currentBatch;
+                    currentBatch = null;
+                    inFlight++;
+                }
+            }
+        }
+
+        if (readyBatch != null) {
+            dispatch(readyBatch);
+        }
+        return future;
+    }
+
+    /**
+     * 대기 시간이 지난 배치를 조회합니다.
+     * 이미 최대 크기 도달로 조회된 배치라면 아무것도 하지 않습니다.
+     */
+    private void flush(Batch batch) {
+        synchronized (lock) {
+            if (currentBatch != batch) {
+                return;
+            }
+            currentBatch = null;
+            inFlight++;
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * 배치에 모인 회원 ID를 하나의 IN 쿼리로 조회하고 각 Future를 완료합니다.
+     */
+    private void dispatch(Batch batch) {
+        List<Long> memberIds = new ArrayList<>(batch.futures.keySet());
+        try {
+            List<Mileage> mileages = readOnlyTransaction.execute(status -> mileageMapper.findByMemberIds(memberIds));
+
+            Map<Long, Mileage> byMemberId = new HashMap<>(mileages.size() * 2);
+            for (Mileage mileage : mileages) {
+                byMemberId.put(mileage.getMemberId(), mileage);
+            }
+
+            // 조회 결과가 없는 회원은 null로 완료 (단건 조회와 동일한 동작)
+            batch.futures.forEach((memberId, future) -> future.complete(byMemberId.get(memberId)));
+            log.debug("마일리지 배치 조회 완료 - 요청 회원 수: {}, 조회 건수: {}", memberIds.size(), mileages.size());
+
+        } catch (RuntimeException e) {
+            log.error("마일리지 배치 조회 실패 - 요청 회원 수: {}", memberIds.size(), e);
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        } finally {
+            synchronized (lock) {
+                inFlight--;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    /**
+     * 한 번의 IN 쿼리로 처리될 조회 요청 묶음
+     */
+    private static final class Batch {
+        private final Map<Long, CompletableFuture<Mileage>> futures = new LinkedHashMap<>();
+    }
+}
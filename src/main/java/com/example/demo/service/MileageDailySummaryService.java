@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 마일리지 일별 집계 서비스
@@ -28,6 +29,7 @@ public class MileageDailySummaryService {
      * @param summaryDate 집계 일자
      * @return 일별 마일리지 집계 정보
      */
+    @Transactional(readOnly = true)
     public MileageDailySummary getDailySummary(LocalDate summaryDate) {
         log.info("일별 집계 조회 - 일자: {}", summaryDate);
         MileageDailySummary summary = summaryMapper.findBySummaryDate(summaryDate);
@@ -42,6 +44,7 @@ public class MileageDailySummaryService {
      * @param endDate 종료일
      * @return 일별 마일리지 집계 목록
      */
+    @Transactional(readOnly = true)
     public List<MileageDailySummary> getDailySummariesByDateRange(LocalDate startDate, LocalDate endDate) {
         log.info("기간별 집계 조회 - 시작일: {}, 종료일: {}", startDate, endDate);
         List<MileageDailySummary> summaries = summaryMapper.findByDateRange(startDate, endDate);
@@ -161,6 +164,7 @@ public class MileageDailySummaryService {
      * @param days 최근 일수
      * @return 일별 마일리지 집계 목록
      */
+    @Transactional(readOnly = true)
     public List<MileageDailySummary> getRecentSummaries(int days) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(days - 1);
@@ -176,6 +180,7 @@ public class MileageDailySummaryService {
      * @param endDate 종료일
      * @return 전체 통계 정보
      */
+    @Transactional(readOnly = true)
     public MileageDailySummary getTotalStatistics(LocalDate startDate, LocalDate endDate) {
         log.info("전체 통계 조회 - 시작일: {}, 종료일: {}", startDate, endDate);
 
@@ -192,6 +197,12 @@ public class MileageDailySummaryService {
         long totalUseAmount = summaries.stream().mapToLong(MileageDailySummary::getTotalUseAmount).sum();
         long totalUseCount = summaries.stream().mapToLong(MileageDailySummary::getTotalUseCount).sum();
         long netAmount = summaries.stream().mapToLong(MileageDailySummary::getNetAmount).sum();
+        // 기간 내 가장 최근 수정일시 (조건부 조회의 Last-Modified 기준)
+        LocalDateTime lastUpdateDate = summaries.stream()
+            .map(MileageDailySummary::getUpdateDate)
+            .filter(Objects::nonNull)
+            .max(LocalDateTime::compareTo)
+            .orElse(null);
 
         MileageDailySummary totalStats = MileageDailySummary.builder()
             .summaryDate(startDate) // 대표 일자
@@ -200,6 +211,7 @@ public class MileageDailySummaryService {
             .totalUseAmount(totalUseAmount)
             .totalUseCount(totalUseCount)
             .netAmount(netAmount)
+            .updateDate(lastUpdateDate)
             .build();
 
         log.info("전체 통계 조회 완료 - 적립: {}건/{}원, 사용: {}건/{}원",
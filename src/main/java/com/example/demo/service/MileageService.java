@@ -2,6 +2,8 @@ package com.example.demo.service;
 
 import com.example.demo.domain.Mileage;
 import com.example.demo.domain.MileageHistory;
+import com.example.demo.logging.LogMarkers;
+import com.example.demo.mapper.MileageHistoryArchiveMapper;
 import com.example.demo.mapper.MileageHistoryMapper;
 import com.example.demo.mapper.MileageMapper;
 import lombok.RequiredArgsConstructor;
@@ -9,12 +11,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * 마일리지 서비스
  * MyBatis Mapper를 사용한 마일리지 비즈니스 로직 처리
+ * 조회 메서드는 readOnly 트랜잭션으로 실행되어 복제본 라우팅 대상이 됩니다 (ReplicationDataSourceConfig)
  */
 @Slf4j
 @Service
@@ -23,30 +29,67 @@ public class MileageService {
 
     private final MileageMapper mileageMapper;
     private final MileageHistoryMapper mileageHistoryMapper;
+    private final MileageHistoryArchiveMapper mileageHistoryArchiveMapper;
+    private final MileageBalanceLoader mileageBalanceLoader;
 
     /**
      * 회원의 마일리지 조회
+     * 동시에 들어온 단건 조회는 MileageBalanceLoader가 하나의 IN 쿼리로 묶어서 처리
+     *
+     * 트랜잭션을 열지 않습니다. 호출 스레드가 트랜잭션으로 커넥션을 잡은 채 배치 조회 결과를 기다리면
+     * 배치 조회(로더의 readOnly 트랜잭션)가 쓸 커넥션이 부족해져 커넥션 풀이 고갈될 수 있습니다.
      *
      * @param memberId 회원 ID
      * @return 마일리지 정보
      */
     public Mileage getMileage(Long memberId) {
-        log.info("조회 시작 - 회원 ID: {}", memberId);
-        Mileage mileage = mileageMapper.findByMemberId(memberId);
-        log.info("조회 완료 - 마일리지: {}", mileage);
+        log.debug("조회 시작 - 회원 ID: {}", memberId);
+        Mileage mileage = mileageBalanceLoader.load(memberId);
+        log.debug("조회 완료 - 마일리지: {}", mileage);
         return mileage;
     }
 
     /**
      * 회원의 마일리지 이력 조회
+     * 아카이브된 이력이 있으면 함께 조회
      *
      * @param memberId 회원 ID
      * @return 마일리지 이력 목록
      */
+    @Transactional(readOnly = true)
     public List<MileageHistory> getMileageHistory(Long memberId) {
-        log.info("이력 조회 시작 - 회원 ID: {}", memberId);
+        log.debug("이력 조회 시작 - 회원 ID: {}", memberId);
         List<MileageHistory> histories = mileageHistoryMapper.findByMemberId(memberId);
-        log.info("이력 조회 완료 - 건수: {}", histories.size());
+        if (reachesArchive(null)) {
+            histories = mergeArchived(histories,
+                mileageHistoryArchiveMapper.findByMemberIdAndDateRange(memberId, null, null));
+        }
+        log.debug("이력 조회 완료 - 건수: {}", histories.size());
+        return histories;
+    }
+
+    /**
+     * 회원의 기간별 마일리지 이력 조회
+     * 조회 시작일이 아카이브 범위에 걸치면 아카이브 이력을 함께 조회
+     *
+     * @param memberId 회원 ID
+     * @param startDate 시작일 (null이면 제한 없음)
+     * @param endDate 종료일 (포함, null이면 제한 없음)
+     * @return 마일리지 이력 목록
+     */
+    @Transactional(readOnly = true)
+    public List<MileageHistory> getMileageHistory(Long memberId, LocalDate startDate, LocalDate endDate) {
+        log.debug("기간별 이력 조회 시작 - 회원 ID: {}, 시작일: {}, 종료일: {}", memberId, startDate, endDate);
+        LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime endDateTime = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+
+        List<MileageHistory> histories =
+            mileageHistoryMapper.findByMemberIdAndDateRange(memberId, startDateTime, endDateTime);
+        if (reachesArchive(startDateTime)) {
+            histories = mergeArchived(histories,
+                mileageHistoryArchiveMapper.findByMemberIdAndDateRange(memberId, startDateTime, endDateTime));
+        }
+        log.debug("기간별 이력 조회 완료 - 건수: {}", histories.size());
         return histories;
     }
 
@@ -60,7 +103,7 @@ public class MileageService {
      */
     @Transactional
     public void earnMileage(Long memberId, Integer amount, String description) {
-        log.info("마일리지 적립 시작 - 회원 ID: {}, 금액: {}, 사유: {}", memberId, amount, description);
+        log.debug("마일리지 적립 시작 - 회원 ID: {}, 금액: {}, 사유: {}", memberId, amount, description);
 
         // 1. 마일리지 잔액 증가
         int updatedRows = mileageMapper.increaseBalance(memberId, amount.longValue());
@@ -77,7 +120,7 @@ public class MileageService {
         history.setCreateDate(LocalDateTime.now());
 
         mileageHistoryMapper.insert(history);
-        log.info("마일리지 적립 완료 - 회원 ID: {}, 금액: {}", memberId, amount);
+        log.info(LogMarkers.TRANSACTION, "마일리지 적립 완료 - 회원 ID: {}, 금액: {}", memberId, amount);
     }
 
     /**
@@ -90,7 +133,7 @@ public class MileageService {
      */
     @Transactional
     public void useMileage(Long memberId, Integer amount, String description) {
-        log.info("마일리지 사용 시작 - 회원 ID: {}, 금액: {}, 사유: {}", memberId, amount, description);
+        log.debug("마일리지 사용 시작 - 회원 ID: {}, 금액: {}, 사유: {}", memberId, amount, description);
 
         // 1. 현재 잔액 확인
         Mileage mileage = mileageMapper.findByMemberId(memberId);
@@ -117,7 +160,7 @@ public class MileageService {
         history.setCreateDate(LocalDateTime.now());
 
         mileageHistoryMapper.insert(history);
-        log.info("마일리지 사용 완료 - 회원 ID: {}, 금액: {}", memberId, amount);
+        log.info(LogMarkers.TRANSACTION, "마일리지 사용 완료 - 회원 ID: {}, 금액: {}", memberId, amount);
     }
 
     /**
@@ -127,7 +170,7 @@ public class MileageService {
      */
     @Transactional
     public void createMileage(Long memberId) {
-        log.info("마일리지 생성 시작 - 회원 ID: {}", memberId);
+        log.debug("마일리지 생성 시작 - 회원 ID: {}", memberId);
 
         Mileage mileage = new Mileage();
         mileage.setMemberId(memberId);
@@ -145,10 +188,14 @@ public class MileageService {
      * @param type 마일리지 유형 (EARN, USE, EXPIRE)
      * @return 마일리지 이력 목록
      */
+    @Transactional(readOnly = true)
     public List<MileageHistory> getMileageHistoryByType(Long memberId, String type) {
-        log.info("유형별 이력 조회 - 회원 ID: {}, 유형: {}", memberId, type);
+        log.debug("유형별 이력 조회 - 회원 ID: {}, 유형: {}", memberId, type);
         List<MileageHistory> histories = mileageHistoryMapper.findByMemberIdAndType(memberId, type);
-        log.info("유형별 이력 조회 완료 - 건수: {}", histories.size());
+        if (reachesArchive(null)) {
+            histories = mergeArchived(histories, mileageHistoryArchiveMapper.findByMemberIdAndType(memberId, type));
+        }
+        log.debug("유형별 이력 조회 완료 - 건수: {}", histories.size());
         return histories;
     }
 
@@ -158,7 +205,40 @@ public class MileageService {
      * @param memberId 회원 ID
      * @return 이력 총 건수
      */
+    @Transactional(readOnly = true)
     public int getMileageHistoryCount(Long memberId) {
-        return mileageHistoryMapper.countByMemberId(memberId);
+        int count = mileageHistoryMapper.countByMemberId(memberId);
+        if (reachesArchive(null)) {
+            count += mileageHistoryArchiveMapper.countByMemberId(memberId);
+        }
+        return count;
+    }
+
+    /**
+     * 조회 범위가 아카이브된 이력에 걸치는지 확인
+     *
+     * @param startDateTime 조회 시작 일시 (null이면 전체 기간)
+     * @return 아카이브를 함께 조회해야 하면 true
+     */
+    private boolean reachesArchive(LocalDateTime startDateTime) {
+        LocalDateTime latestArchived = mileageHistoryArchiveMapper.findLatestArchivedDate();
+        if (latestArchived == null) {
+            return false;
+        }
+        return startDateTime == null || !startDateTime.isAfter(latestArchived);
+    }
+
+    /**
+     * 원본 이력과 아카이브 이력을 생성일시 역순으로 병합
+     */
+    private List<MileageHistory> mergeArchived(List<MileageHistory> histories, List<MileageHistory> archived) {
+        if (archived.isEmpty()) {
+            return histories;
+        }
+        List<MileageHistory> merged = new ArrayList<>(histories.size() + archived.size());
+        merged.addAll(histories);
+        merged.addAll(archived);
+        merged.sort(Comparator.comparing(MileageHistory::getCreateDate).reversed());
+        return merged;
     }
 }
@@ -0,0 +1,22 @@
+-- =====================================================================
+-- Spring Batch 메타데이터 조회용 인덱스 (Oracle 전용: dev / tb / prd1 / prd2)
+--
+-- Spring Batch 기본 스키마는 PK/FK 외 인덱스가 없어 실행 이력이 쌓이면
+-- JobRepository의 실행 조회(재시작 판단, 마지막 실행 조회)와 JobExplorer 조회가 전체 스캔이 됩니다.
+-- batchMetadataPurgeJob이 보존 기간을 유지하더라도 다음 인덱스를 함께 생성합니다.
+-- =====================================================================
+
+-- Job 인스턴스 조회 (getJobInstance(jobName, jobParameters))는 기본 스키마의 유니크 제약
+-- JOB_INST_UN (JOB_NAME, JOB_KEY) 인덱스를 사용하므로 별도 인덱스를 만들지 않습니다 (같은 컬럼 목록이면 ORA-01408).
+
+-- 인스턴스별 실행 조회 (재시작 판단, getLastJobExecution)
+CREATE INDEX IDX_BATCH_JOB_EXEC_INSTANCE ON BATCH_JOB_EXECUTION (JOB_INSTANCE_ID);
+
+-- 보존 기간 정리 (batchMetadataPurgeJob)
+CREATE INDEX IDX_BATCH_JOB_EXEC_CREATE ON BATCH_JOB_EXECUTION (CREATE_TIME);
+
+-- Job 실행별 Step 실행 조회 (JobExplorer.getJobExecution, 실행 상태 조회 API)
+CREATE INDEX IDX_BATCH_STEP_EXEC_JOB_EXEC ON BATCH_STEP_EXECUTION (JOB_EXECUTION_ID);
+
+-- Job 실행 파라미터 조회
+CREATE INDEX IDX_BATCH_JOB_PARAMS_EXEC ON BATCH_JOB_EXECUTION_PARAMS (JOB_EXECUTION_ID);
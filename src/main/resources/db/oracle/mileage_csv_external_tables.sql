@@ -0,0 +1,65 @@
+-- =====================================================================
+-- 마일리지 CSV 적재용 외부 테이블 (Oracle 전용: dev / tb / prd1 / prd2)
+--
+-- mileageCsvNativeLoadJob이 LOCATION을 Job 파라미터의 파일명으로 바꾼 뒤
+-- INSERT /*+ APPEND */ ... SELECT FROM 외부 테이블로 적재합니다.
+-- CSV 파일은 DB 서버의 MILEAGE_LOAD_DIR 경로에 두어야 하며, 첫 줄은 헤더입니다.
+-- =====================================================================
+
+-- 1. DIRECTORY 객체 (DBA 권한 필요)
+-- CREATE OR REPLACE DIRECTORY MILEAGE_LOAD_DIR AS '/data/mileage/load';
+-- GRANT READ, WRITE ON DIRECTORY MILEAGE_LOAD_DIR TO <배치 계정>;
+
+-- 2. 회원 CSV (member_id,balance)
+CREATE TABLE MILEAGE_EXT (
+    MEMBER_ID NUMBER(19),
+    BALANCE   NUMBER(19)
+)
+ORGANIZATION EXTERNAL (
+    TYPE ORACLE_LOADER
+    DEFAULT DIRECTORY MILEAGE_LOAD_DIR
+    ACCESS PARAMETERS (
+        RECORDS DELIMITED BY NEWLINE
+        CHARACTERSET AL32UTF8
+        SKIP 1
+        BADFILE MILEAGE_LOAD_DIR:'mileage_ext.bad'
+        LOGFILE MILEAGE_LOAD_DIR:'mileage_ext.log'
+        FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"'
+        MISSING FIELD VALUES ARE NULL
+    )
+    LOCATION ('mileage.csv')
+)
+REJECT LIMIT 0
+PARALLEL;
+
+-- 3. 이력 CSV (member_id,type,amount,description,create_date)
+CREATE TABLE MILEAGE_HISTORY_EXT (
+    MEMBER_ID   NUMBER(19),
+    TYPE        VARCHAR2(20),
+    AMOUNT      NUMBER(10),
+    DESCRIPTION VARCHAR2(500),
+    CREATE_DATE TIMESTAMP
+)
+ORGANIZATION EXTERNAL (
+    TYPE ORACLE_LOADER
+    DEFAULT DIRECTORY MILEAGE_LOAD_DIR
+    ACCESS PARAMETERS (
+        RECORDS DELIMITED BY NEWLINE
+        CHARACTERSET AL32UTF8
+        SKIP 1
+        BADFILE MILEAGE_LOAD_DIR:'mileage_history_ext.bad'
+        LOGFILE MILEAGE_LOAD_DIR:'mileage_history_ext.log'
+        FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"'
+        MISSING FIELD VALUES ARE NULL
+        (
+            MEMBER_ID,
+            TYPE,
+            AMOUNT,
+            DESCRIPTION CHAR(500),
+            CREATE_DATE CHAR(19) DATE_FORMAT TIMESTAMP MASK "YYYY-MM-DD HH24:MI:SS"
+        )
+    )
+    LOCATION ('mileage_history.csv')
+)
+REJECT LIMIT 0
+PARALLEL;
@@ -0,0 +1,54 @@
+-- =====================================================================
+-- MILEAGE_HISTORY 월별 인터벌 파티셔닝 (Oracle 전용: dev / tb / prd1 / prd2)
+--
+-- CREATE_DATE 기준 월 단위 RANGE-INTERVAL 파티션을 사용합니다.
+-- - 일별 집계(aggregateByDate)와 기간 이력 조회는 create_date 범위 조건을 사용하므로
+--   해당 월 파티션 하나만 읽습니다 (partition pruning).
+-- - 보존 기간이 지난 월은 DELETE 대신 파티션 DROP으로 제거합니다
+--   (mileageHistoryPartitionDropJob, application 설정 mileage.history.partitioning=oracle-interval).
+--
+-- H2(local)는 파티셔닝을 지원하지 않으므로 schema.sql의 단일 테이블과
+-- CREATE_DATE 인덱스 범위 스캔으로 동일한 쿼리를 처리합니다.
+-- =====================================================================
+
+-- 1. 신규 생성
+CREATE TABLE MILEAGE_HISTORY (
+    ID                NUMBER(19)     GENERATED BY DEFAULT AS IDENTITY,
+    MILEAGE_MEMBER_ID NUMBER(19)     NOT NULL,
+    TYPE              VARCHAR2(20)   NOT NULL,
+    AMOUNT            NUMBER(10)     NOT NULL,
+    DESCRIPTION       VARCHAR2(500),
+    CREATE_DATE       TIMESTAMP      DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT PK_MILEAGE_HISTORY PRIMARY KEY (ID),
+    CONSTRAINT FK_MILEAGE_HISTORY_MEMBER FOREIGN KEY (MILEAGE_MEMBER_ID) REFERENCES MILEAGE (MEMBER_ID)
+)
+PARTITION BY RANGE (CREATE_DATE)
+INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+(
+    -- 인터벌 파티셔닝의 기준(transition) 파티션: DROP 불가(ORA-14758)
+    -- 이전 데이터는 mileageHistoryPartitionDropJob이 청크 단위 복사/삭제로 비움 (mileage.history.interval-start와 일치시킬 것)
+    PARTITION P_INITIAL VALUES LESS THAN (TIMESTAMP '2020-01-01 00:00:00')
+);
+
+-- 파티션별 로컬 인덱스 (파티션 DROP 시 인덱스 재구성 불필요)
+CREATE INDEX IDX_MILEAGE_HISTORY_MEMBER_DATE ON MILEAGE_HISTORY (MILEAGE_MEMBER_ID, CREATE_DATE) LOCAL;
+CREATE INDEX IDX_MILEAGE_HISTORY_CREATE_DATE ON MILEAGE_HISTORY (CREATE_DATE) LOCAL;
+
+-- 2. 기존 비파티션 테이블 전환 (Oracle 12.2 이상, 온라인)
+-- ALTER TABLE MILEAGE_HISTORY MODIFY
+--     PARTITION BY RANGE (CREATE_DATE) INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+--     (PARTITION P_INITIAL VALUES LESS THAN (TIMESTAMP '2020-01-01 00:00:00'))
+--     ONLINE
+--     UPDATE INDEXES (
+--         IDX_MILEAGE_HISTORY_MEMBER_DATE LOCAL,
+--         IDX_MILEAGE_HISTORY_CREATE_DATE LOCAL
+--     );
+
+-- 3. 파티션 확인
+-- SELECT PARTITION_NAME, HIGH_VALUE, NUM_ROWS
+-- FROM USER_TAB_PARTITIONS
+-- WHERE TABLE_NAME = 'MILEAGE_HISTORY'
+-- ORDER BY PARTITION_POSITION;
+
+-- 4. 월 파티션 삭제 (mileageHistoryPartitionDropJob이 수행하는 구문)
+-- ALTER TABLE MILEAGE_HISTORY DROP PARTITION FOR (TIMESTAMP '2024-01-01 00:00:00') UPDATE GLOBAL INDEXES;
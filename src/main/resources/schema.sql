@@ -38,3 +38,52 @@ CREATE TABLE IF NOT EXISTS MILEAGE_DAILY_SUMMARY (
     CREATE_DATE TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     UPDATE_DATE TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '수정일시'
 );
+
+-- 마일리지 이력 아카이브 테이블
+-- 보존 기간이 지난 MILEAGE_HISTORY 데이터를 이관하여 저장 (mileageHistoryArchiveJob)
+CREATE TABLE IF NOT EXISTS MILEAGE_HISTORY_ARCHIVE (
+    ID BIGINT PRIMARY KEY COMMENT '이력 ID (원본 MILEAGE_HISTORY.ID)',
+    MILEAGE_MEMBER_ID BIGINT NOT NULL COMMENT '회원 ID',
+    TYPE VARCHAR(20) NOT NULL COMMENT '마일리지 유형 (EARN: 적립, USE: 사용)',
+    AMOUNT INTEGER NOT NULL COMMENT '마일리지 금액',
+    DESCRIPTION VARCHAR(500) COMMENT '설명',
+    CREATE_DATE TIMESTAMP NOT NULL COMMENT '생성일시',
+    ARCHIVE_DATE TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '아카이브 일시'
+);
+
+CREATE INDEX IF NOT EXISTS IDX_MILEAGE_HISTORY_ARCHIVE_MEMBER_DATE
+    ON MILEAGE_HISTORY_ARCHIVE(MILEAGE_MEMBER_ID, CREATE_DATE);
+
+CREATE INDEX IF NOT EXISTS IDX_MILEAGE_HISTORY_ARCHIVE_CREATE_DATE
+    ON MILEAGE_HISTORY_ARCHIVE(CREATE_DATE);
+
+-- 마일리지 이력 내보내기 테이블
+-- 기간별 MILEAGE_HISTORY를 복사하여 저장 (mileageHistoryExportJob)
+CREATE TABLE IF NOT EXISTS MILEAGE_HISTORY_EXPORT (
+    HISTORY_ID BIGINT PRIMARY KEY COMMENT '이력 ID (원본 MILEAGE_HISTORY.ID)',
+    MILEAGE_MEMBER_ID BIGINT NOT NULL COMMENT '회원 ID',
+    TYPE VARCHAR(20) NOT NULL COMMENT '마일리지 유형 (EARN: 적립, USE: 사용)',
+    AMOUNT INTEGER NOT NULL COMMENT '마일리지 금액',
+    DESCRIPTION VARCHAR(500) COMMENT '설명',
+    CREATE_DATE TIMESTAMP NOT NULL COMMENT '생성일시',
+    EXPORT_DATE TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '내보내기 일시'
+);
+
+CREATE INDEX IF NOT EXISTS IDX_MILEAGE_HISTORY_EXPORT_CREATE_DATE
+    ON MILEAGE_HISTORY_EXPORT(CREATE_DATE);
+
+-- 배치 스킵 항목 테이블
+-- Chunk Step에서 읽기/처리/쓰기에 실패하여 건너뛴 항목을 저장 (SkippedItemRecorder)
+CREATE TABLE IF NOT EXISTS MILEAGE_SKIPPED_ITEM (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '스킵 ID',
+    JOB_NAME VARCHAR(100) COMMENT 'Job 이름',
+    STEP_NAME VARCHAR(100) COMMENT 'Step 이름',
+    STEP_EXECUTION_ID BIGINT COMMENT 'Step 실행 ID',
+    PHASE VARCHAR(10) NOT NULL COMMENT '실패 단계 (READ, PROCESS, WRITE)',
+    ITEM VARCHAR(4000) COMMENT '항목 내용',
+    ERROR_MESSAGE VARCHAR(1000) COMMENT '오류 메시지',
+    CREATE_DATE TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시'
+);
+
+CREATE INDEX IF NOT EXISTS IDX_MILEAGE_SKIPPED_ITEM_STEP_EXECUTION
+    ON MILEAGE_SKIPPED_ITEM(STEP_EXECUTION_ID);
@@ -0,0 +1,173 @@
+package com.example.demo.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 처리량 보고서
+ *
+ * Job/Step별 처리 건수, 소요 시간, 초당 처리 건수를 JSON으로 기록하고 기준(baseline) 보고서와 비교합니다.
+ * 처리 건수는 max(readCount, writeCount)이며, 파티션 Worker Step(이름에 ':' 포함)은 Manager Step 합계에 포함되므로 제외합니다.
+ * 읽기/쓰기 건수를 남기지 않는 Tasklet Step은 호출하는 쪽에서 업무 테이블로 센 처리 건수를 넘길 수 있습니다.
+ * 기준 보고서와 비교했는지는 Job별 "compared"로 남기며, 비교하지 않았으면 이유를 "skipReason"에 남깁니다.
+ *
+ * 보고서 형식:
+ * <pre>
+ * { "createdAt": "...", "dataset": { "members": "20000", ... },
+ *   "jobs": { "mileageDataGenerationJob": { "status": "COMPLETED", "wallTimeMs": 1234, "rows": 350000, "rowsPerSecond": 283630.5,
+ *             "compared": false, "skipReason": "기준 보고서 없음",
+ *             "steps": { "mileageMemberGenerationStep": { "readCount": 20000, "writeCount": 20000, "commitCount": 21,
+ *                                                          "rows": 20000, "wallTimeMs": 210, "rowsPerSecond": 95238.1 } } } } }
+ * </pre>
+ */
+class BatchThroughputReport {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, String> dataset;
+    private final Map<String, Object> jobs = new LinkedHashMap<>();
+
+    BatchThroughputReport(Map<String, String> dataset) {
+        this.dataset = dataset;
+    }
+
+    /**
+     * Job 실행 결과 기록
+     *
+     * @return 기록한 Job 결과 (Step별 결과는 "steps")
+     */
+    Map<String, Object> add(JobExecution jobExecution) {
+        return add(jobExecution, Map.of());
+    }
+
+    /**
+     * Job 실행 결과 기록 (Step 처리 건수 지정)
+     *
+     * @param stepRows Step 이름별 처리 건수 (지정한 Step은 max(readCount, writeCount) 대신 사용)
+     * @return 기록한 Job 결과 (Step별 결과는 "steps")
+     */
+    Map<String, Object> add(JobExecution jobExecution, Map<String, Long> stepRows) {
+        Map<String, Object> steps = new LinkedHashMap<>();
+        long jobRows = 0;
+        List<StepExecution> stepExecutions = jobExecution.getStepExecutions().stream()
+            .filter(stepExecution -> !stepExecution.getStepName().contains(":"))
+            .sorted(Comparator.comparing(StepExecution::getStartTime))
+            .toList();
+        for (StepExecution stepExecution : stepExecutions) {
+            long rows = stepRows.getOrDefault(stepExecution.getStepName(),
+                Math.max(stepExecution.getReadCount(), stepExecution.getWriteCount()));
+            long wallTimeMs = millis(stepExecution.getStartTime(), stepExecution.getEndTime());
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("readCount", stepExecution.getReadCount());
+            step.put("writeCount", stepExecution.getWriteCount());
+            step.put("commitCount", stepExecution.getCommitCount());
+            step.put("rows", rows);
+            step.put("wallTimeMs", wallTimeMs);
+            step.put("rowsPerSecond", rowsPerSecond(rows, wallTimeMs));
+            steps.put(stepExecution.getStepName(), step);
+            jobRows += rows;
+        }
+
+        long jobWallTimeMs = millis(jobExecution.getStartTime(), jobExecution.getEndTime());
+        Map<String, Object> job = new LinkedHashMap<>();
+        job.put("status", jobExecution.getStatus().name());
+        job.put("wallTimeMs", jobWallTimeMs);
+        job.put("rows", jobRows);
+        job.put("rowsPerSecond", rowsPerSecond(jobRows, jobWallTimeMs));
+        job.put("steps", steps);
+        jobs.put(jobExecution.getJobInstance().getJobName(), job);
+        return job;
+    }
+
+    /**
+     * 기준 보고서 대비 처리량 저하 검사
+     *
+     * 기준 보고서가 없거나 데이터 규모가 현재와 다르면 비교하지 않고 Job 결과에 "compared": false와 이유를 남깁니다.
+     * 기준 소요 시간이 minWallTimeMs 미만인 Step은 측정 오차가 커서 비교하지 않습니다.
+     *
+     * @param jobName 비교할 Job
+     * @param baseline 기준 보고서 (없으면 null)
+     * @param tolerancePercent 허용 저하율 (%)
+     * @param minWallTimeMs 비교 대상 최소 소요 시간
+     * @return 허용 저하율을 넘은 Step 설명 (없으면 빈 목록)
+     */
+    @SuppressWarnings("unchecked")
+    List<String> regressions(String jobName, JsonNode baseline, double tolerancePercent, long minWallTimeMs) {
+        List<String> regressions = new ArrayList<>();
+        Map<String, Object> job = (Map<String, Object>) jobs.get(jobName);
+        String skipReason = skipReason(baseline);
+        job.put("compared", skipReason == null);
+        if (skipReason != null) {
+            job.put("skipReason", skipReason);
+            return regressions;
+        }
+        JsonNode baselineSteps = baseline.path("jobs").path(jobName).path("steps");
+        Map<String, Object> steps = (Map<String, Object>) job.get("steps");
+        steps.forEach((stepName, value) -> {
+            JsonNode baselineStep = baselineSteps.path(stepName);
+            if (baselineStep.isMissingNode() || baselineStep.path("wallTimeMs").asLong() < minWallTimeMs) {
+                return;
+            }
+            double expected = baselineStep.path("rowsPerSecond").asDouble();
+            double actual = (double) ((Map<String, Object>) value).get("rowsPerSecond");
+            if (expected > 0 && actual < expected * (1 - tolerancePercent / 100)) {
+                regressions.add(String.format("%s.%s: %.1f rows/s (기준 %.1f rows/s, %.1f%% 저하, 허용 %.1f%%)",
+                    jobName, stepName, actual, expected, (1 - actual / expected) * 100, tolerancePercent));
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * 기준 보고서와 비교할 수 없는 이유 (비교할 수 있으면 null)
+     */
+    String skipReason(JsonNode baseline) {
+        if (baseline == null) {
+            return "기준 보고서 없음";
+        }
+        if (!objectMapper.valueToTree(dataset).equals(baseline.path("dataset"))) {
+            return "기준 보고서와 데이터 규모(dataset)가 다름 (기준: " + baseline.path("dataset") + ")";
+        }
+        return null;
+    }
+
+    /**
+     * 기준 보고서 읽기 (파일이 없으면 null)
+     */
+    JsonNode readBaseline(Path baselineFile) throws IOException {
+        return Files.exists(baselineFile) ? objectMapper.readTree(baselineFile.toFile()) : null;
+    }
+
+    /**
+     * 보고서 저장
+     */
+    void write(Path reportFile) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("createdAt", LocalDateTime.now().toString());
+        report.put("dataset", dataset);
+        report.put("jobs", jobs);
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        objectMapper.writeValue(reportFile.toFile(), report);
+    }
+
+    private static long millis(LocalDateTime start, LocalDateTime end) {
+        return start != null && end != null ? Duration.between(start, end).toMillis() : 0L;
+    }
+
+    private static double rowsPerSecond(long rows, long wallTimeMs) {
+        return wallTimeMs > 0 ? Math.round(rows * 10_000.0 / wallTimeMs) / 10.0 : 0.0;
+    }
+}
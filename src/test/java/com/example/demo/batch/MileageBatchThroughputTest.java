@@ -0,0 +1,203 @@
+package com.example.demo.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마일리지 배치 처리량 회귀 테스트
+ *
+ * 파일 H2(build/batch-performance/h2)에 설정한 규모의 데이터를 생성하고
+ * mileageDataGenerationJob, mileageAggregationJob, mileageFullProcessJob을 실행하여
+ * Step별 처리 건수/소요 시간/초당 처리 건수를 JSON 보고서(build/reports/batch-performance/batch-throughput.json)로 남깁니다.
+ * 처리 건수를 남기지 않는 집계 Step(mileageAggregationStep)은 MILEAGE_DAILY_SUMMARY의 적립/사용 건수 합계를 처리 건수로 사용합니다.
+ *
+ * 기준 보고서(batchPerf.baseline)가 있고 데이터 규모가 같으면, 초당 처리 건수가 기준보다
+ * batchPerf.tolerancePercent(%) 넘게 떨어진 Step이 있을 때 실패합니다.
+ * 기준 보고서가 없거나 데이터 규모가 다르면 비교하지 않은 것을 통과로 보이지 않도록 테스트를 중단(skip)하며,
+ * batchPerf.requireBaseline=true이면 실패합니다.
+ *
+ * 일반 test 태스크에서는 제외되며 ./gradlew batchPerformanceTest로 실행합니다.
+ *
+ * 설정 (시스템 프로퍼티, Gradle: -PbatchPerf.members=100000):
+ * - batchPerf.members / days / transactionsPerDay / batchSize / seed: 데이터 규모 (기본값 20000 / 7 / 50000 / 1000 / 42)
+ * - batchPerf.tolerancePercent: 허용 처리량 저하율 (기본값 20)
+ * - batchPerf.minStepMillis: 기준 소요 시간이 이보다 짧은 Step은 비교 제외 (기본값 1000)
+ * - batchPerf.requireBaseline: 비교할 기준 보고서가 없으면 실패 (기본값 false, CI 기준 러너용)
+ * - batchPerf.baseline: 기준 보고서 경로 (기본값 src/test/resources/batch-performance/baseline.json)
+ * - batchPerf.reportDir: 보고서 디렉토리 (기본값 build/reports/batch-performance)
+ */
+@Tag("performance")
+@SpringBatchTest
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:file:${batchPerf.dataDir:./build/batch-performance/h2}/mileage",
+    "batch.datasource.url=jdbc:h2:file:${batchPerf.dataDir:./build/batch-performance/h2}/batch-meta",
+    "mileage.startup-job.mode=off",
+    "spring.h2.console.enabled=false",
+    "logging.level.com.example.demo=WARN",
+    "logging.level.org.springframework.batch=WARN",
+    "logging.level.org.mybatis=WARN"
+})
+@ActiveProfiles("local")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MileageBatchThroughputTest {
+
+    private static final Map<String, String> DATASET = new LinkedHashMap<>();
+    private static final double TOLERANCE_PERCENT =
+        Double.parseDouble(System.getProperty("batchPerf.tolerancePercent", "20"));
+    private static final long MIN_STEP_MILLIS = Long.getLong("batchPerf.minStepMillis", 1000);
+    private static final boolean REQUIRE_BASELINE = Boolean.getBoolean("batchPerf.requireBaseline");
+    private static final String AGGREGATION_STEP = "mileageAggregationStep";
+
+    private static BatchThroughputReport report;
+    private static JsonNode baseline;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    @Qualifier("jobLauncher")
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Job mileageDataGenerationJob;
+
+    @Autowired
+    private Job mileageAggregationJob;
+
+    @Autowired
+    private Job mileageFullProcessJob;
+
+    @BeforeAll
+    static void setUpReport() throws Exception {
+        DATASET.put("members", System.getProperty("batchPerf.members", "20000"));
+        DATASET.put("days", System.getProperty("batchPerf.days", "7"));
+        DATASET.put("transactionsPerDay", System.getProperty("batchPerf.transactionsPerDay", "50000"));
+        DATASET.put("batchSize", System.getProperty("batchPerf.batchSize", "1000"));
+        DATASET.put("seed", System.getProperty("batchPerf.seed", "42"));
+        report = new BatchThroughputReport(DATASET);
+        baseline = report.readBaseline(Path.of(
+            System.getProperty("batchPerf.baseline", "src/test/resources/batch-performance/baseline.json")));
+    }
+
+    @AfterAll
+    static void writeReport() throws Exception {
+        report.write(Path.of(System.getProperty("batchPerf.reportDir", "build/reports/batch-performance"))
+            .resolve("batch-throughput.json"));
+    }
+
+    @Test
+    @Order(1)
+    void mileageDataGenerationJob() throws Exception {
+        clearMileageData();
+        assertThroughput(launch(mileageDataGenerationJob));
+    }
+
+    @Test
+    @Order(2)
+    void mileageAggregationJob() throws Exception {
+        // 단독 실행 시에도 집계할 이력이 있도록 생성 결과가 없으면 먼저 생성 (측정 제외)
+        Long members = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM MILEAGE", Long.class);
+        if (members == null || members != Long.parseLong(DATASET.get("members"))) {
+            clearMileageData();
+            assertThat(launch(mileageDataGenerationJob).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        }
+        assertThroughput(launch(mileageAggregationJob));
+    }
+
+    @Test
+    @Order(3)
+    void mileageFullProcessJob() throws Exception {
+        clearMileageData();
+        assertThroughput(launch(mileageFullProcessJob));
+    }
+
+    private JobExecution launch(Job job) throws Exception {
+        jobLauncherTestUtils.setJob(job);
+        jobLauncherTestUtils.setJobLauncher(jobLauncher);  // 동기 실행 (asyncJobLauncher 제외)
+        JobParameters jobParameters = jobLauncherTestUtils.getUniqueJobParametersBuilder()
+            .addString("members", DATASET.get("members"))
+            .addString("days", DATASET.get("days"))
+            .addString("transactionsPerDay", DATASET.get("transactionsPerDay"))
+            .addString("batchSize", DATASET.get("batchSize"))
+            .addString("seed", DATASET.get("seed"))
+            .toJobParameters();
+        return jobLauncherTestUtils.launchJob(jobParameters);
+    }
+
+    private void assertThroughput(JobExecution jobExecution) {
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        report.add(jobExecution, stepRows(jobExecution));
+
+        String jobName = jobExecution.getJobInstance().getJobName();
+        List<String> regressions = report.regressions(jobName, baseline, TOLERANCE_PERCENT, MIN_STEP_MILLIS);
+        assertThat(regressions)
+            .as("기준 보고서 대비 처리량 저하 (%s)", jobName)
+            .isEmpty();
+
+        // 비교하지 않은 실행이 통과로 보이지 않도록 중단(skip), requireBaseline이면 실패
+        String skipReason = report.skipReason(baseline);
+        if (skipReason != null) {
+            assertThat(REQUIRE_BASELINE)
+                .as("batchPerf.requireBaseline: 기준 보고서와 비교하지 않음 (%s) - %s", jobName, skipReason)
+                .isFalse();
+            Assumptions.abort("기준 보고서와 비교하지 않음 (" + jobName + "): " + skipReason);
+        }
+    }
+
+    /**
+     * 집계 Tasklet은 읽기/쓰기 건수를 남기지 않으므로 집계 테이블에 반영된 거래 건수를 처리 건수로 사용
+     */
+    private Map<String, Long> stepRows(JobExecution jobExecution) {
+        boolean aggregated = jobExecution.getStepExecutions().stream()
+            .anyMatch(stepExecution -> AGGREGATION_STEP.equals(stepExecution.getStepName()));
+        if (!aggregated) {
+            return Map.of();
+        }
+        Long transactions = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(TOTAL_EARN_COUNT + TOTAL_USE_COUNT), 0) FROM MILEAGE_DAILY_SUMMARY", Long.class);
+        return Map.of(AGGREGATION_STEP, transactions == null ? 0L : transactions);
+    }
+
+    /**
+     * 파일 H2는 실행 간에 데이터가 남으므로 생성 Job 실행 전 업무 테이블과 배치 메타데이터를 비움
+     */
+    private void clearMileageData() {
+        jdbcTemplate.execute("DELETE FROM MILEAGE_DAILY_SUMMARY");
+        jdbcTemplate.execute("DELETE FROM MILEAGE_HISTORY");
+        jdbcTemplate.execute("DELETE FROM MILEAGE");
+        jobRepositoryTestUtils.removeJobExecutions();
+    }
+}
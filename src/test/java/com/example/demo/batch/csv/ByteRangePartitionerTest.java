@@ -0,0 +1,111 @@
+package com.example.demo.batch.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ByteRangePartitioner 분할 테스트
+ * 구간 경계가 줄 시작에 맞춰지는지, 구간을 모두 읽으면 모든 줄을 한 번씩 읽는지 확인
+ */
+class ByteRangePartitionerTest {
+
+    private static final CsvRecordMapper<String> LINE_MAPPER = record -> {
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < record.size(); i++) {
+            fields.add(record.getString(i));
+        }
+        return String.join("|", fields);
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void alignsRangesToLineStartsAndSkipsHeader() throws Exception {
+        Path file = write("member_id,balance\n1,100\n22,2200\n333,33300\n4444,444400\n");
+        byte[] bytes = Files.readAllBytes(file);
+
+        Map<String, ExecutionContext> partitions = new ByteRangePartitioner(file, true).partition(3);
+
+        long expectedStart = "member_id,balance\n".length();
+        for (ExecutionContext context : partitions.values()) {
+            long start = context.getLong(ByteRangePartitioner.START_OFFSET_KEY);
+            long end = context.getLong(ByteRangePartitioner.END_OFFSET_KEY);
+            assertThat(start).isEqualTo(expectedStart);
+            assertThat(bytes[(int) start - 1]).isEqualTo((byte) '\n');
+            assertThat(end).isGreaterThan(start);
+            expectedStart = end;
+        }
+        assertThat(expectedStart).isEqualTo(bytes.length);
+    }
+
+    @Test
+    void readsEveryLineOnceAcrossRanges() throws Exception {
+        StringBuilder csv = new StringBuilder("member_id,type,amount,description,create_date\n");
+        List<String> expected = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            String description = i % 3 == 0 ? "\"적립, \"\"이벤트\"\" " + i + "\"" : "desc" + i;
+            csv.append(i).append(",EARN,").append(i * 10).append(',').append(description)
+                .append(",2024-01-01 00:00:00").append(i % 2 == 0 ? "\r\n" : "\n");
+            expected.add(i + "|EARN|" + (i * 10) + "|"
+                + (i % 3 == 0 ? "적립, \"이벤트\" " + i : "desc" + i) + "|2024-01-01 00:00:00");
+        }
+        Path file = write(csv.toString());
+
+        for (int gridSize : new int[] {1, 2, 7, 64}) {
+            assertThat(readAll(file, new ByteRangePartitioner(file, true).partition(gridSize)))
+                .as("gridSize %d", gridSize)
+                .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void handlesMoreRangesThanLines() throws Exception {
+        Path file = write("1,100\n2,200");
+
+        Map<String, ExecutionContext> partitions = new ByteRangePartitioner(file, false).partition(16);
+
+        assertThat(readAll(file, partitions)).containsExactly("1|100", "2|200");
+    }
+
+    @Test
+    void returnsNoPartitionsWithoutFileOrRows() throws Exception {
+        assertThat(new ByteRangePartitioner(null, true).partition(4)).isEmpty();
+        assertThat(new ByteRangePartitioner(write("member_id,balance\n"), true).partition(4)).isEmpty();
+    }
+
+    private List<String> readAll(Path file, Map<String, ExecutionContext> partitions) {
+        List<String> lines = new ArrayList<>();
+        for (ExecutionContext context : partitions.values()) {
+            MappedCsvRangeReader<String> reader = new MappedCsvRangeReader<>("reader", file,
+                context.getLong(ByteRangePartitioner.START_OFFSET_KEY),
+                context.getLong(ByteRangePartitioner.END_OFFSET_KEY), LINE_MAPPER);
+            reader.open(new ExecutionContext());
+            try {
+                String line;
+                while ((line = reader.read()) != null) {
+                    lines.add(line);
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return lines;
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = Files.createTempFile(tempDir, "mileage", ".csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.batch.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CsvRecord 필드 분리/변환 테스트
+ */
+class CsvRecordTest {
+
+    private final CsvRecord record = new CsvRecord();
+
+    @Test
+    void splitsPlainFields() {
+        load("1,EARN,500,적립,2024-01-01 10:20:30");
+
+        assertThat(record.size()).isEqualTo(5);
+        assertThat(record.getLong(0)).isEqualTo(1L);
+        assertThat(record.equalsAscii(1, "EARN")).isTrue();
+        assertThat(record.getInt(2)).isEqualTo(500);
+        assertThat(record.getString(3)).isEqualTo("적립");
+        assertThat(record.getDateTime(4)).isEqualTo(LocalDateTime.of(2024, 1, 1, 10, 20, 30));
+    }
+
+    @Test
+    void readsQuotedFieldsWithSeparatorAndEscapedQuote() {
+        load("1,\"a,b\",\"say \"\"hi\"\"\",\"\"");
+
+        assertThat(record.size()).isEqualTo(4);
+        assertThat(record.getString(1)).isEqualTo("a,b");
+        assertThat(record.getString(2)).isEqualTo("say \"hi\"");
+        assertThat(record.isEmpty(3)).isTrue();
+    }
+
+    @Test
+    void keepsEmptyFields() {
+        load("1,,3,");
+
+        assertThat(record.size()).isEqualTo(4);
+        assertThat(record.isEmpty(1)).isTrue();
+        assertThat(record.getLong(2)).isEqualTo(3L);
+        assertThat(record.isEmpty(3)).isTrue();
+    }
+
+    @Test
+    void parsesSignedNumbers() {
+        load("-1200,+34");
+
+        assertThat(record.getLong(0)).isEqualTo(-1200L);
+        assertThat(record.getLong(1)).isEqualTo(34L);
+    }
+
+    @Test
+    void parsesDateAndIsoDateTime() {
+        load("2024-02-29,2024-02-29T23:59:58");
+
+        assertThat(record.getDateTime(0)).isEqualTo(LocalDateTime.of(2024, 2, 29, 0, 0));
+        assertThat(record.getDateTime(1)).isEqualTo(LocalDateTime.of(2024, 2, 29, 23, 59, 58));
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        load("12a,,2024-01");
+
+        assertThatThrownBy(() -> record.getLong(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> record.getLong(1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> record.getDateTime(2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsSignOnlyNumbers() {
+        load("-,+");
+
+        assertThatThrownBy(() -> record.getLong(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> record.getLong(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parsesLongBoundsAndRejectsLongOverflow() {
+        load("9223372036854775807,-9223372036854775808,9223372036854775808,-9223372036854775809,12345678901234567890");
+
+        assertThat(record.getLong(0)).isEqualTo(Long.MAX_VALUE);
+        assertThat(record.getLong(1)).isEqualTo(Long.MIN_VALUE);
+        assertThatThrownBy(() -> record.getLong(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> record.getLong(3)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> record.getLong(4)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void rejectsIntOverflow() {
+        load("2147483648");
+
+        assertThatThrownBy(() -> record.getInt(0)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void reusesBufferForLongerLine() {
+        load("1,2");
+        String description = "x".repeat(1000);
+        load("3," + description + ",5");
+
+        assertThat(record.size()).isEqualTo(3);
+        assertThat(record.getString(1)).isEqualTo(description);
+        assertThat(record.getLong(2)).isEqualTo(5L);
+    }
+
+    @Test
+    void growsFieldCapacity() {
+        load("0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19");
+
+        assertThat(record.size()).isEqualTo(20);
+        assertThat(record.getLong(19)).isEqualTo(19L);
+    }
+
+    @Test
+    void loadsLineFromBufferOffset() {
+        byte[] bytes = "header\n7,USE,-10\n".getBytes(StandardCharsets.UTF_8);
+        record.load(ByteBuffer.wrap(bytes), 7, 9);
+
+        assertThat(record.size()).isEqualTo(3);
+        assertThat(record.getLong(0)).isEqualTo(7L);
+        assertThat(record.getInt(2)).isEqualTo(-10);
+    }
+
+    private void load(String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        record.load(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+}